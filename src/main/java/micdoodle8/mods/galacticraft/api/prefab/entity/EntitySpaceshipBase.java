@@ -360,13 +360,26 @@ public abstract class EntitySpaceshipBase extends Entity implements IPacketRecei
 
         if (!this.worldObj.isRemote && this.ticks % 3 == 0)
         {
-            GalacticraftCore.packetPipeline.sendToDimension(new PacketDynamic(this), this.worldObj.provider.getDimensionId());
-            // PacketDispatcher.sendPacketToAllInDimension(GCCorePacketManager.getPacket(GalacticraftCore.CHANNELENTITIES,
-            // this, this.getNetworkedData(new ArrayList())),
-            // this.worldObj.provider.getDimensionId());
+            if (this.syncToWholeDimension())
+            {
+                GalacticraftCore.packetPipeline.sendToDimension(new PacketDynamic(this), this);
+            }
+            else
+            {
+                GalacticraftCore.packetPipeline.sendToTracking(new PacketDynamic(this), this);
+            }
         }
     }
 
+    /**
+     * Whether the update packets should go to every player in the dimension, instead of
+     * only the players tracking this rocket.  True during the launch countdown.
+     */
+    protected boolean syncToWholeDimension()
+    {
+        return this.launchPhase == EnumLaunchPhase.IGNITED.ordinal();
+    }
+
     protected boolean shouldMoveClientSide()
     {
         return true;
@@ -2,9 +2,11 @@ package micdoodle8.mods.galacticraft.api.prefab.world.gen;
 
 import micdoodle8.mods.galacticraft.api.prefab.core.BlockMetaPair;
 import micdoodle8.mods.galacticraft.core.perlin.generator.Gradient;
+import micdoodle8.mods.galacticraft.core.world.gen.CraterCache;
 import micdoodle8.mods.galacticraft.core.world.gen.EnumCraterSize;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockFalling;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.BlockPos;
@@ -16,6 +18,7 @@ import net.minecraft.world.chunk.ChunkPrimer;
 import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.gen.ChunkProviderGenerate;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
@@ -33,6 +36,17 @@ public abstract class ChunkProviderSpace extends ChunkProviderGenerate
     private final Gradient noiseGen5;
     private final Gradient noiseGen6;
     private final Gradient noiseGen7;
+    private final float[] noiseBase = new float[256];
+    private final float[] noiseSmallHill = new float[256];
+    private final float[] noiseMountain = new float[256];
+    private final float[] noiseValley = new float[256];
+    private final float[] noiseFeatureFilter = new float[256];
+    private final float[] noiseLargeFilter = new float[256];
+    private final float[] noiseSmallFilter = new float[256];
+    private final float[] noiseCraters = new float[256];
+    private final int[] columnTops = new int[256];
+    private ChunkPrimer columnTopsPrimer;
+    private final CraterCache craterCache = new CraterCache(this::findCraters, 256);
 
     protected final World worldObj;
 
@@ -80,17 +94,31 @@ public abstract class ChunkProviderSpace extends ChunkProviderGenerate
         this.noiseGen6.setFrequency(0.001F);
         this.noiseGen7.setFrequency(0.005F);
 
+        final IBlockState stone = this.getStoneBlock().getBlock().getStateFromMeta(this.getStoneBlock().getMetadata());
+
+        //Whole chunk of each noise layer at once: same values as calling getNoise() per column
+        final float x0 = chunkX * 16;
+        final float z0 = chunkZ * 16;
+        this.noiseGen1.fillNoise2d(this.noiseBase, x0, z0, 1F, 1F, ChunkProviderSpace.CHUNK_SIZE_X, ChunkProviderSpace.CHUNK_SIZE_Z);
+        this.noiseGen2.fillNoise2d(this.noiseSmallHill, x0, z0, 1F, 1F, ChunkProviderSpace.CHUNK_SIZE_X, ChunkProviderSpace.CHUNK_SIZE_Z);
+        this.noiseGen3.fillNoise2d(this.noiseMountain, x0, z0, 1F, 1F, ChunkProviderSpace.CHUNK_SIZE_X, ChunkProviderSpace.CHUNK_SIZE_Z);
+        this.noiseGen4.fillNoise2d(this.noiseValley, x0, z0, 1F, 1F, ChunkProviderSpace.CHUNK_SIZE_X, ChunkProviderSpace.CHUNK_SIZE_Z);
+        this.noiseGen5.fillNoise2d(this.noiseFeatureFilter, x0, z0, 1F, 1F, ChunkProviderSpace.CHUNK_SIZE_X, ChunkProviderSpace.CHUNK_SIZE_Z);
+        this.noiseGen6.fillNoise2d(this.noiseLargeFilter, x0, z0, 1F, 1F, ChunkProviderSpace.CHUNK_SIZE_X, ChunkProviderSpace.CHUNK_SIZE_Z);
+        this.noiseGen7.fillNoise2d(this.noiseSmallFilter, x0, z0, 1F, 1F, ChunkProviderSpace.CHUNK_SIZE_X, ChunkProviderSpace.CHUNK_SIZE_Z);
+
         for (int x = 0; x < ChunkProviderSpace.CHUNK_SIZE_X; x++)
         {
             for (int z = 0; z < ChunkProviderSpace.CHUNK_SIZE_Z; z++)
             {
-                final double baseHeight = this.noiseGen1.getNoise(chunkX * 16 + x, chunkZ * 16 + z) * this.TERRAIN_HEIGHT_MOD;
-                final double smallHillHeight = this.noiseGen2.getNoise(chunkX * 16 + x, chunkZ * 16 + z) * this.SMALL_FEATURE_HEIGHT_MOD;
-                double mountainHeight = Math.abs(this.noiseGen3.getNoise(chunkX * 16 + x, chunkZ * 16 + z));
-                double valleyHeight = Math.abs(this.noiseGen4.getNoise(chunkX * 16 + x, chunkZ * 16 + z));
-                final double featureFilter = this.noiseGen5.getNoise(chunkX * 16 + x, chunkZ * 16 + z) * ChunkProviderSpace.MAIN_FEATURE_FILTER_MOD;
-                final double largeFilter = this.noiseGen6.getNoise(chunkX * 16 + x, chunkZ * 16 + z) * ChunkProviderSpace.LARGE_FEATURE_FILTER_MOD;
-                final double smallFilter = this.noiseGen7.getNoise(chunkX * 16 + x, chunkZ * 16 + z) * ChunkProviderSpace.SMALL_FEATURE_FILTER_MOD - 0.5;
+                final int column = x * ChunkProviderSpace.CHUNK_SIZE_Z + z;
+                final double baseHeight = this.noiseBase[column] * this.TERRAIN_HEIGHT_MOD;
+                final double smallHillHeight = this.noiseSmallHill[column] * this.SMALL_FEATURE_HEIGHT_MOD;
+                double mountainHeight = Math.abs(this.noiseMountain[column]);
+                double valleyHeight = Math.abs(this.noiseValley[column]);
+                final double featureFilter = this.noiseFeatureFilter[column] * ChunkProviderSpace.MAIN_FEATURE_FILTER_MOD;
+                final double largeFilter = this.noiseLargeFilter[column] * ChunkProviderSpace.LARGE_FEATURE_FILTER_MOD;
+                final double smallFilter = this.noiseSmallFilter[column] * ChunkProviderSpace.SMALL_FEATURE_FILTER_MOD - 0.5;
                 mountainHeight = this.lerp(smallHillHeight, mountainHeight * this.MOUNTAIN_HEIGHT_MOD, this.fade(this.clamp(mountainHeight * 2, 0, 1)));
                 valleyHeight = this.lerp(smallHillHeight, valleyHeight * this.VALLEY_HEIGHT_MOD - this.VALLEY_HEIGHT_MOD + 9, this.fade(this.clamp((valleyHeight + 2) * 4, 0, 1)));
 
@@ -98,17 +126,19 @@ public abstract class ChunkProviderSpace extends ChunkProviderGenerate
                 yDev = this.lerp(smallHillHeight, yDev, smallFilter);
                 yDev = this.lerp(baseHeight, yDev, featureFilter);
 
-                for (int y = 0; y < ChunkProviderSpace.CHUNK_SIZE_Y; y++)
+                //Each column is solid from y = 0 up to its height: fill that run and remember the top
+                final double height = this.MID_HEIGHT + yDev;
+                final int index = this.getIndex(x, 0, z);
+                int y = 0;
+                for (; y < ChunkProviderSpace.CHUNK_SIZE_Y && y < height; y++)
                 {
-                    if (y < this.MID_HEIGHT + yDev)
-                    {
-                        primer.setBlockState(this.getIndex(x, y, z), this.getStoneBlock().getBlock().getStateFromMeta(this.getStoneBlock().getMetadata()));
-//                        idArray[this.getIndex(x, y, z)] = this.getStoneBlock().getBlock();
-//                        metaArray[this.getIndex(x, y, z)] = this.getStoneBlock().getMetadata();
-                    }
+                    primer.setBlockState(index + y, stone);
                 }
+                this.columnTops[column] = y - 1;
             }
         }
+
+        this.columnTopsPrimer = primer;
     }
 
     private double lerp(double d1, double d2, double t)
@@ -268,26 +298,55 @@ public abstract class ChunkProviderSpace extends ChunkProviderGenerate
 
     public void createCraters(int chunkX, int chunkZ, ChunkPrimer primer)
     {
-        this.noiseGen5.setFrequency(0.015F);
         for (int cx = chunkX - 2; cx <= chunkX + 2; cx++)
         {
             for (int cz = chunkZ - 2; cz <= chunkZ + 2; cz++)
             {
-                for (int x = 0; x < ChunkProviderSpace.CHUNK_SIZE_X; x++)
+                final int[] craters = this.craterCache.getCraters(cx, cz);
+                for (int i = 0; i < craters.length; i += 3)
                 {
-                    for (int z = 0; z < ChunkProviderSpace.CHUNK_SIZE_Z; z++)
+                    if (CraterCache.reachesChunk(craters[i], craters[i + 1], craters[i + 2], chunkX * 16, chunkZ * 16))
                     {
-                        if (Math.abs(this.randFromPoint(cx * 16 + x, (cz * 16 + z) * 1000)) < this.noiseGen5.getNoise(cx * 16 + x, cz * 16 + z) / this.CRATER_PROB)
+                        if (primer == this.columnTopsPrimer)
+                        {
+                            this.makeCraterFromTops(craters[i], craters[i + 1], chunkX * 16, chunkZ * 16, craters[i + 2], primer);
+                        }
+                        else
                         {
-                            final Random random = new Random(cx * 16 + x + (cz * 16 + z) * 5000);
-                            final EnumCraterSize cSize = EnumCraterSize.sizeArray[random.nextInt(EnumCraterSize.sizeArray.length)];
-                            final int size = random.nextInt(cSize.MAX_SIZE - cSize.MIN_SIZE) + cSize.MIN_SIZE + 15;
-                            this.makeCrater(cx * 16 + x, cz * 16 + z, chunkX * 16, chunkZ * 16, size, primer);
+                            this.makeCrater(craters[i], craters[i + 1], chunkX * 16, chunkZ * 16, craters[i + 2], primer);
                         }
                     }
                 }
             }
         }
+
+        this.columnTopsPrimer = null;
+    }
+
+    private int[] findCraters(int cx, int cz)
+    {
+        this.noiseGen5.setFrequency(0.015F);
+        this.noiseGen5.fillNoise2d(this.noiseCraters, cx * 16, cz * 16, 1F, 1F, ChunkProviderSpace.CHUNK_SIZE_X, ChunkProviderSpace.CHUNK_SIZE_Z);
+        int[] craters = CraterCache.NO_CRATERS;
+
+        for (int x = 0; x < ChunkProviderSpace.CHUNK_SIZE_X; x++)
+        {
+            for (int z = 0; z < ChunkProviderSpace.CHUNK_SIZE_Z; z++)
+            {
+                if (Math.abs(this.randFromPoint(cx * 16 + x, (cz * 16 + z) * 1000)) < this.noiseCraters[x * ChunkProviderSpace.CHUNK_SIZE_Z + z] / this.CRATER_PROB)
+                {
+                    final Random random = new Random(cx * 16 + x + (cz * 16 + z) * 5000);
+                    final EnumCraterSize cSize = EnumCraterSize.sizeArray[random.nextInt(EnumCraterSize.sizeArray.length)];
+                    final int size = random.nextInt(cSize.MAX_SIZE - cSize.MIN_SIZE) + cSize.MIN_SIZE + 15;
+                    craters = Arrays.copyOf(craters, craters.length + 3);
+                    craters[craters.length - 3] = cx * 16 + x;
+                    craters[craters.length - 2] = cz * 16 + z;
+                    craters[craters.length - 1] = size;
+                }
+            }
+        }
+
+        return craters;
     }
 
     public void makeCrater(int craterX, int craterZ, int chunkX, int chunkZ, int size, ChunkPrimer primer)
@@ -326,6 +385,53 @@ public abstract class ChunkProviderSpace extends ChunkProviderGenerate
         }
     }
 
+    /**
+     * Same as makeCrater(), for a primer just filled by generateTerrain(): everything above the
+     * column tops is air, so each column is dug from its top instead of from y = 127 down.
+     */
+    private void makeCraterFromTops(int craterX, int craterZ, int chunkX, int chunkZ, int size, ChunkPrimer primer)
+    {
+        final IBlockState air = Blocks.air.getDefaultState();
+        for (int x = 0; x < ChunkProviderSpace.CHUNK_SIZE_X; x++)
+        {
+            for (int z = 0; z < ChunkProviderSpace.CHUNK_SIZE_Z; z++)
+            {
+                double xDev = craterX - (chunkX + x);
+                double zDev = craterZ - (chunkZ + z);
+                if (xDev * xDev + zDev * zDev < size * size)
+                {
+                    xDev /= size;
+                    zDev /= size;
+                    final double sqrtY = xDev * xDev + zDev * zDev;
+                    double yDev = sqrtY * sqrtY * 6;
+                    yDev = 5 - yDev;
+                    final int column = x * ChunkProviderSpace.CHUNK_SIZE_Z + z;
+                    final int index = this.getIndex(x, 0, z);
+                    int top = Math.min(this.columnTops[column], 127);
+                    int helper = 0;
+                    for (int y = top; y > 0; y--)
+                    {
+                        if (helper <= yDev && Blocks.air != primer.getBlockState(index + y).getBlock())
+                        {
+                            primer.setBlockState(index + y, air);
+                            helper++;
+                            top = y - 1;
+                        }
+
+                        if (helper > yDev)
+                        {
+                            break;
+                        }
+                    }
+                    if (helper > 0)
+                    {
+                        this.columnTops[column] = top;
+                    }
+                }
+            }
+        }
+    }
+
     private int getIndex(int x, int y, int z)
     {
         return (x * 16 + z) * 256 + y;
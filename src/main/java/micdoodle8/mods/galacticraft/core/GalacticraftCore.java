@@ -406,6 +406,9 @@ public class GalacticraftCore
         event.registerServerCommand(new CommandGCInv());
         event.registerServerCommand(new CommandGCHelp());
         event.registerServerCommand(new CommandGCEnergyUnits());
+        event.registerServerCommand(new CommandGCEnergyGrid());
+        event.registerServerCommand(new CommandGCPackets());
+        event.registerServerCommand(new CommandGCProfile());
         event.registerServerCommand(new CommandJoinSpaceRace());
 
         WorldUtil.initialiseDimensionNames();
@@ -432,6 +435,8 @@ public class GalacticraftCore
     @EventHandler
     public void onServerStop(FMLServerStoppedEvent var1)
     {
+        AsyncSaveWriter.flush();
+
         // Unregister dimensions
         WorldUtil.unregisterPlanets();
         WorldUtil.unregisterSpaceStations();
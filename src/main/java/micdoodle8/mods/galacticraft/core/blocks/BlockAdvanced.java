@@ -1,11 +1,13 @@
 package micdoodle8.mods.galacticraft.core.blocks;
 
+import micdoodle8.mods.galacticraft.core.energy.tile.TileBaseElectricBlock;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.BlockPos;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.world.World;
@@ -25,6 +27,23 @@ public abstract class BlockAdvanced extends Block
         //A default blast resistance for GC machines and tiles, similar to a bookshelf
     }
 
+    @Override
+    public void onNeighborBlockChange(World worldIn, BlockPos pos, IBlockState state, Block neighborBlock)
+    {
+        super.onNeighborBlockChange(worldIn, pos, state, neighborBlock);
+
+        if (!worldIn.isRemote)
+        {
+            TileEntity tile = worldIn.getTileEntity(pos);
+
+            if (tile instanceof TileBaseElectricBlock)
+            {
+                //A redstone signal from a neighbour may have changed
+                ((TileBaseElectricBlock) tile).onNeighborChanged();
+            }
+        }
+    }
+
     @Override
     public boolean onBlockActivated(World worldIn, BlockPos pos, IBlockState state, EntityPlayer playerIn, EnumFacing side, float hitX, float hitY, float hitZ)
     {
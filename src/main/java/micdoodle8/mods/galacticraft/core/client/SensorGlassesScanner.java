@@ -0,0 +1,284 @@
+package micdoodle8.mods.galacticraft.core.client;
+
+import micdoodle8.mods.galacticraft.api.block.IDetectableResource;
+import micdoodle8.mods.galacticraft.api.vector.BlockVec3;
+import micdoodle8.mods.galacticraft.core.proxy.ClientProxyCore;
+import micdoodle8.mods.galacticraft.core.wrappers.BlockMetaList;
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.IWorldAccess;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import java.util.*;
+
+/**
+ * Finds the valuable blocks around the player for the Sensor Glasses.
+ *
+ * Which block states count as valuable is worked out once, as a bitset over the block state IDs
+ * used in chunk storage, so testing a block is a single bit lookup on the raw section data.
+ * The ores found in each 16x16x16 chunk section near the player are remembered; a section is only
+ * read again when a block in it changes (this listens to the client world like the renderer does)
+ * or when it comes back into range.
+ */
+public class SensorGlassesScanner implements IWorldAccess
+{
+    private static final SensorGlassesScanner instance = new SensorGlassesScanner();
+    private static final int[] NO_ORES = new int[0];
+
+    private static final BitSet detectable = new BitSet();
+    private static boolean detectableStale = true;
+
+    private World world;
+    //Section index (x | z << 4 | y << 8, the same as ExtendedBlockStorage) of each ore in the cached sections
+    private final Map<Long, int[]> sections = new HashMap<Long, int[]>();
+    private final Set<Long> inRange = new HashSet<Long>();
+
+    /**
+     * Call when the detectable block list changes.
+     */
+    public static void markDetectableStale()
+    {
+        SensorGlassesScanner.detectableStale = true;
+        SensorGlassesScanner.instance.sections.clear();
+    }
+
+    private static void buildDetectable()
+    {
+        SensorGlassesScanner.detectable.clear();
+
+        for (IBlockState state : Block.BLOCK_STATE_IDS)
+        {
+            Block block = state.getBlock();
+
+            if (block.getMaterial() == Material.air)
+            {
+                continue;
+            }
+
+            boolean isDetectable = block instanceof IDetectableResource && ((IDetectableResource) block).isValueable(state);
+
+            if (!isDetectable)
+            {
+                int metadata = block.getMetaFromState(state);
+                for (BlockMetaList blockMetaList : ClientProxyCore.detectableBlocks)
+                {
+                    if (blockMetaList.getBlock() == block && blockMetaList.getMetaList().contains(metadata))
+                    {
+                        isDetectable = true;
+                        break;
+                    }
+                }
+            }
+
+            if (isDetectable)
+            {
+                SensorGlassesScanner.detectable.set(Block.BLOCK_STATE_IDS.get(state));
+            }
+        }
+
+        SensorGlassesScanner.detectableStale = false;
+    }
+
+    /**
+     * Fill the valuable blocks with the detectable blocks within radius (a cube) of x, y, z.
+     */
+    public static void scan(World world, int x, int y, int z, int radius, Set<BlockVec3> valuableBlocks)
+    {
+        SensorGlassesScanner.instance.scanArea(world, x, y, z, radius, valuableBlocks);
+    }
+
+    public static void unload(World world)
+    {
+        if (SensorGlassesScanner.instance.world == world)
+        {
+            SensorGlassesScanner.instance.world = null;
+            SensorGlassesScanner.instance.sections.clear();
+            SensorGlassesScanner.instance.inRange.clear();
+        }
+    }
+
+    private void scanArea(World world, int x, int y, int z, int radius, Set<BlockVec3> valuableBlocks)
+    {
+        if (world != this.world)
+        {
+            if (this.world != null)
+            {
+                this.world.removeWorldAccess(this);
+            }
+            this.world = world;
+            world.addWorldAccess(this);
+            this.sections.clear();
+            //Block state IDs can be remapped on joining a server
+            SensorGlassesScanner.detectableStale = true;
+        }
+
+        if (SensorGlassesScanner.detectableStale)
+        {
+            SensorGlassesScanner.buildDetectable();
+        }
+
+        valuableBlocks.clear();
+
+        int minX = x - radius;
+        int minY = Math.max(y - radius, 0);
+        int minZ = z - radius;
+        int maxX = x + radius;
+        int maxY = Math.min(y + radius, 255);
+        int maxZ = z + radius;
+
+        this.inRange.clear();
+
+        for (int cx = minX >> 4; cx <= maxX >> 4; cx++)
+        {
+            for (int cz = minZ >> 4; cz <= maxZ >> 4; cz++)
+            {
+                for (int cy = minY >> 4; cy <= maxY >> 4; cy++)
+                {
+                    Long key = new BlockPos(cx, cy, cz).toLong();
+                    this.inRange.add(key);
+                    int[] ores = this.sections.get(key);
+
+                    if (ores == null)
+                    {
+                        ores = this.scanSection(world.getChunkFromChunkCoords(cx, cz), cy);
+                        this.sections.put(key, ores);
+                    }
+
+                    for (int index : ores)
+                    {
+                        int bx = (cx << 4) + (index & 15);
+                        int by = (cy << 4) + (index >> 8);
+                        int bz = (cz << 4) + (index >> 4 & 15);
+
+                        if (bx >= minX && bx <= maxX && by >= minY && by <= maxY && bz >= minZ && bz <= maxZ)
+                        {
+                            valuableBlocks.add(new BlockVec3(bx, by, bz));
+                        }
+                    }
+                }
+            }
+        }
+
+        //Sections which left range are forgotten, and read again if they come back
+        this.sections.keySet().retainAll(this.inRange);
+    }
+
+    private int[] scanSection(Chunk chunk, int cy)
+    {
+        ExtendedBlockStorage storage = chunk.getBlockStorageArray()[cy];
+
+        if (storage == null || storage.isEmpty())
+        {
+            return SensorGlassesScanner.NO_ORES;
+        }
+
+        char[] data = storage.getData();
+        int[] found = null;
+        int count = 0;
+
+        for (int index = 0; index < data.length; index++)
+        {
+            if (SensorGlassesScanner.detectable.get(data[index]))
+            {
+                if (found == null)
+                {
+                    found = new int[16];
+                }
+                else if (count == found.length)
+                {
+                    found = Arrays.copyOf(found, count * 2);
+                }
+                found[count++] = index;
+            }
+        }
+
+        return found == null ? SensorGlassesScanner.NO_ORES : Arrays.copyOf(found, count);
+    }
+
+    private void invalidate(int minX, int minY, int minZ, int maxX, int maxY, int maxZ)
+    {
+        if (this.sections.isEmpty())
+        {
+            return;
+        }
+
+        Iterator<Long> it = this.sections.keySet().iterator();
+        while (it.hasNext())
+        {
+            BlockPos section = BlockPos.fromLong(it.next());
+            if (section.getX() >= minX >> 4 && section.getX() <= maxX >> 4 && section.getY() >= minY >> 4 && section.getY() <= maxY >> 4 && section.getZ() >= minZ >> 4 && section.getZ() <= maxZ >> 4)
+            {
+                it.remove();
+            }
+        }
+    }
+
+    @Override
+    public void markBlockForUpdate(BlockPos pos)
+    {
+        this.invalidate(pos.getX(), pos.getY(), pos.getZ(), pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    @Override
+    public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2)
+    {
+        //Called when chunk data arrives from the server
+        this.invalidate(x1, y1, z1, x2, y2, z2);
+    }
+
+    @Override
+    public void notifyLightSet(BlockPos pos)
+    {
+    }
+
+    @Override
+    public void playSound(String soundName, double x, double y, double z, float volume, float pitch)
+    {
+    }
+
+    @Override
+    public void playSoundToNearExcept(EntityPlayer except, String soundName, double x, double y, double z, float volume, float pitch)
+    {
+    }
+
+    @Override
+    public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord, double xOffset, double yOffset, double zOffset, int... parameters)
+    {
+    }
+
+    @Override
+    public void onEntityAdded(Entity entityIn)
+    {
+    }
+
+    @Override
+    public void onEntityRemoved(Entity entityIn)
+    {
+    }
+
+    @Override
+    public void playRecord(String recordName, BlockPos blockPosIn)
+    {
+    }
+
+    @Override
+    public void broadcastSound(int soundID, BlockPos pos, int data)
+    {
+    }
+
+    @Override
+    public void playAuxSFX(EntityPlayer player, int sfxType, BlockPos blockPosIn, int data)
+    {
+    }
+
+    @Override
+    public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress)
+    {
+    }
+}
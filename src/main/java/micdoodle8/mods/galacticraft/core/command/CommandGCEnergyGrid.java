@@ -0,0 +1,95 @@
+package micdoodle8.mods.galacticraft.core.command;
+
+import micdoodle8.mods.galacticraft.api.transmission.tile.IConductor;
+import micdoodle8.mods.galacticraft.core.energy.grid.EnergyNetwork;
+import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ChatComponentText;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Lists the busiest energy networks on the server, with the energy requested and delivered
+ * per tick (exact, from the grid's fixed point accounting) and the time taken by the grid solver.
+ */
+public class CommandGCEnergyGrid extends CommandBase
+{
+    @Override
+    public String getCommandUsage(ICommandSender var1)
+    {
+        return "/" + this.getCommandName() + " [count]";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel()
+    {
+        return 2;
+    }
+
+    @Override
+    public String getCommandName()
+    {
+        return "gcenergygrid";
+    }
+
+    @Override
+    public void processCommand(ICommandSender sender, String[] args) throws CommandException
+    {
+        if (args.length > 1)
+        {
+            throw new WrongUsageException(GCCoreUtil.translateWithFormat("commands.dimensiontp.too_many", this.getCommandUsage(sender)), new Object[0]);
+        }
+
+        int count = args.length == 1 ? parseInt(args[0], 1, 100) : 10;
+
+        List<EnergyNetwork> networks = EnergyNetwork.getActiveNetworks();
+        Collections.sort(networks, new Comparator<EnergyNetwork>()
+        {
+            @Override
+            public int compare(EnergyNetwork a, EnergyNetwork b)
+            {
+                return Long.compare(b.getStatsDelivered(), a.getStatsDelivered());
+            }
+        });
+
+        long totalNanos = 0L;
+        for (EnergyNetwork network : networks)
+        {
+            totalNanos += network.getStatsSolverNanos();
+        }
+
+        sender.addChatMessage(new ChatComponentText("Active energy networks: " + networks.size() + ", solver time " + (totalNanos / 1000L) + "us"));
+
+        for (int i = 0; i < networks.size() && i < count; i++)
+        {
+            EnergyNetwork network = networks.get(i);
+            String location = "";
+            Iterator<IConductor> it = network.getTransmitters().iterator();
+            if (it.hasNext())
+            {
+                TileEntity tile = (TileEntity) it.next();
+                location = " dim " + GCCoreUtil.getDimensionID(tile.getWorld()) + " at " + tile.getPos().getX() + "," + tile.getPos().getY() + "," + tile.getPos().getZ();
+            }
+
+            sender.addChatMessage(new ChatComponentText((i + 1) + ")" + location + " wires " + network.getTransmitters().size() + " acceptors " + network.getStatsAcceptors() +
+                    " requested " + CommandGCEnergyGrid.formatEnergy(network.getStatsRequested()) + " delivered " + CommandGCEnergyGrid.formatEnergy(network.getStatsDelivered()) + " gJ/t, solver " + network.getStatsSolverNanos() + "ns"));
+        }
+    }
+
+    /**
+     * Formats a fixed point energy value (see EnergyNetwork.ENERGY_UNITS) as an exact decimal
+     */
+    private static String formatEnergy(long energy)
+    {
+        String sign = energy < 0 ? "-" : "";
+        energy = Math.abs(energy);
+        return sign + energy / EnergyNetwork.ENERGY_UNITS + "." + String.format("%03d", energy % EnergyNetwork.ENERGY_UNITS);
+    }
+}
@@ -0,0 +1,61 @@
+package micdoodle8.mods.galacticraft.core.command;
+
+import micdoodle8.mods.galacticraft.core.network.GalacticraftPacketHandler;
+import micdoodle8.mods.galacticraft.core.network.InboundPacketQueue;
+import micdoodle8.mods.galacticraft.core.tick.TickHandlerServer;
+import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.ChatComponentText;
+import net.minecraftforge.fml.relauncher.Side;
+
+import java.util.Map;
+
+/**
+ * Shows the queues of Galacticraft packets received by the server in each dimension: how many
+ * are waiting now and at most, and how many have been handled, coalesced and dropped.
+ */
+public class CommandGCPackets extends CommandBase
+{
+    @Override
+    public String getCommandUsage(ICommandSender var1)
+    {
+        return "/" + this.getCommandName();
+    }
+
+    @Override
+    public int getRequiredPermissionLevel()
+    {
+        return 2;
+    }
+
+    @Override
+    public String getCommandName()
+    {
+        return "gcpackets";
+    }
+
+    @Override
+    public void processCommand(ICommandSender sender, String[] args) throws CommandException
+    {
+        if (args.length > 0)
+        {
+            throw new WrongUsageException(GCCoreUtil.translateWithFormat("commands.dimensiontp.too_many", this.getCommandUsage(sender)), new Object[0]);
+        }
+
+        sender.addChatMessage(new ChatComponentText("Packet queues (limit " + GalacticraftPacketHandler.MAX_QUEUED_PACKETS + ", " + GalacticraftPacketHandler.PACKETS_PER_TICK + " handled per tick):"));
+
+        for (GalacticraftPacketHandler handler : TickHandlerServer.getPacketHandlers())
+        {
+            for (Map.Entry<Integer, InboundPacketQueue<EntityPlayer>> entry : handler.getQueues(Side.SERVER).entrySet())
+            {
+                InboundPacketQueue<EntityPlayer> queue = entry.getValue();
+                sender.addChatMessage(new ChatComponentText("dim " + entry.getKey() + ": waiting " + queue.getDepth() + " (max " + queue.getMaxDepth() + ") received " + queue.getReceived() +
+                        " handled " + queue.getHandled() + " coalesced " + queue.getCoalesced() + " dropped " + queue.getDropped()));
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package micdoodle8.mods.galacticraft.core.command;
+
+import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
+import micdoodle8.mods.galacticraft.core.util.GCProfiler;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.util.BlockPos;
+import net.minecraft.util.ChatComponentText;
+
+import java.util.List;
+
+/**
+ * Starts and stops the Galacticraft tick profiler, and lists where the time went: for each
+ * dimension the time per section and a histogram of recent tick times, then the most expensive
+ * tile positions (a network is listed at its first transmitter) and players.
+ */
+public class CommandGCProfile extends CommandBase
+{
+    @Override
+    public String getCommandUsage(ICommandSender var1)
+    {
+        return "/" + this.getCommandName() + " <start|stop|reset|[count]>";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel()
+    {
+        return 2;
+    }
+
+    @Override
+    public String getCommandName()
+    {
+        return "gcprofile";
+    }
+
+    @Override
+    public void processCommand(ICommandSender sender, String[] args) throws CommandException
+    {
+        if (args.length > 1)
+        {
+            throw new WrongUsageException(GCCoreUtil.translateWithFormat("commands.dimensiontp.too_many", this.getCommandUsage(sender)), new Object[0]);
+        }
+
+        if (args.length == 1)
+        {
+            if (args[0].equalsIgnoreCase("start"))
+            {
+                GCProfiler.setEnabled(true);
+                sender.addChatMessage(new ChatComponentText("Galacticraft profiler started"));
+                return;
+            }
+            if (args[0].equalsIgnoreCase("stop"))
+            {
+                GCProfiler.setEnabled(false);
+                sender.addChatMessage(new ChatComponentText("Galacticraft profiler stopped"));
+                return;
+            }
+            if (args[0].equalsIgnoreCase("reset"))
+            {
+                GCProfiler.reset();
+                sender.addChatMessage(new ChatComponentText("Galacticraft profiler reset"));
+                return;
+            }
+        }
+
+        int count = args.length == 1 ? parseInt(args[0], 1, 100) : 10;
+        long ticks = Math.max(GCProfiler.getEnabledTicks(), 1L);
+
+        sender.addChatMessage(new ChatComponentText("Galacticraft profile over " + GCProfiler.getEnabledTicks() + " ticks" + (GCProfiler.isEnabled() ? "" : " (stopped)") + ", average us/tick:"));
+
+        for (GCProfiler.DimensionStats stats : GCProfiler.getDimensions())
+        {
+            StringBuilder line = new StringBuilder(this.getDimensionName(stats.dimension)).append(": ").append(stats.getTotalNanos() / ticks / 1000L);
+            for (GCProfiler.Section section : GCProfiler.Section.values())
+            {
+                if (stats.getCalls(section) > 0)
+                {
+                    line.append(", ").append(section.name().toLowerCase()).append(" ").append(stats.getNanos(section) / ticks / 1000L);
+                }
+            }
+            sender.addChatMessage(new ChatComponentText(line.toString()));
+
+            if (stats.dimension != GCProfiler.ALL_DIMENSIONS)
+            {
+                int[] histogram = stats.getHistogram();
+                line = new StringBuilder("  last ").append(stats.getRecentTicks()).append(" ticks:");
+                for (int i = 0; i < histogram.length; i++)
+                {
+                    if (histogram[i] > 0)
+                    {
+                        line.append(i == histogram.length - 1 ? " >" + GCProfiler.BUCKETS[i - 1] : " <=" + GCProfiler.BUCKETS[i]).append("us ").append(histogram[i]);
+                    }
+                }
+                sender.addChatMessage(new ChatComponentText(line.toString()));
+            }
+        }
+
+        List<GCProfiler.SubjectStats> top = GCProfiler.getTopSubjects(count);
+        if (!top.isEmpty())
+        {
+            sender.addChatMessage(new ChatComponentText("Most expensive:"));
+        }
+
+        for (int i = 0; i < top.size(); i++)
+        {
+            GCProfiler.SubjectStats stats = top.get(i);
+            sender.addChatMessage(new ChatComponentText((i + 1) + ") " + stats.section.name().toLowerCase() + " " + this.describe(stats.subject) + " in " + this.getDimensionName(stats.dimension) +
+                    ": " + stats.getNanos() / ticks / 1000L + "us/tick over " + stats.getCalls() + " calls"));
+        }
+    }
+
+    private String getDimensionName(int dimension)
+    {
+        return dimension == GCProfiler.ALL_DIMENSIONS ? "All dimensions" : "Dim " + dimension;
+    }
+
+    private String describe(Object subject)
+    {
+        if (subject instanceof BlockPos)
+        {
+            BlockPos pos = (BlockPos) subject;
+            return "at " + pos.getX() + "," + pos.getY() + "," + pos.getZ();
+        }
+
+        return subject.toString();
+    }
+}
@@ -1,11 +1,11 @@
 package micdoodle8.mods.galacticraft.core.command;
 
+import micdoodle8.mods.galacticraft.core.util.AsyncWorldSavedData;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
-import net.minecraft.world.WorldSavedData;
 
-public class GCInvSaveData extends WorldSavedData
+public class GCInvSaveData extends AsyncWorldSavedData
 {
     public static final String SAVE_ID = "GCInv_savefile";
 
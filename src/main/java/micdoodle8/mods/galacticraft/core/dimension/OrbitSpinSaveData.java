@@ -1,11 +1,11 @@
 package micdoodle8.mods.galacticraft.core.dimension;
 
+import micdoodle8.mods.galacticraft.core.util.AsyncWorldSavedData;
 import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
-import net.minecraft.world.WorldSavedData;
 
-public class OrbitSpinSaveData extends WorldSavedData
+public class OrbitSpinSaveData extends AsyncWorldSavedData
 {
     public static final String saveDataID = "GCSpinData";
     public NBTTagCompound datacompound;
@@ -168,6 +168,7 @@ public class SpaceRace
     public void setPlayerNames(List<String> playerNames)
     {
         this.playerNames = playerNames;
+        SpaceRaceManager.onMembershipChanged();
     }
 
     public void setSpaceRaceID(int raceID)
@@ -22,65 +22,138 @@ import net.minecraft.util.ChatStyle;
 import net.minecraft.util.EnumChatFormatting;
 import net.minecraft.world.WorldServer;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 public class SpaceRaceManager
 {
     private static final Set<SpaceRace> spaceRaces = Sets.newHashSet();
 
+    /*
+     * Index of player name -> space race (races are saved by player name), rebuilt lazily
+     * after any change in race membership.  onlinePlayers is updated by login and logout
+     * events so that tick() only has to look at the teams with a player online.
+     */
+    private static final Map<String, SpaceRace> playerIndex = new HashMap<String, SpaceRace>();
+    private static final Map<UUID, String> onlinePlayers = new HashMap<UUID, String>();
+    private static boolean indexDirty = true;
+
     public static SpaceRace addSpaceRace(SpaceRace spaceRace)
     {
         SpaceRaceManager.spaceRaces.remove(spaceRace);
         SpaceRaceManager.spaceRaces.add(spaceRace);
+        SpaceRaceManager.onMembershipChanged();
         return spaceRace;
     }
 
     public static void removeSpaceRace(SpaceRace race)
     {
         SpaceRaceManager.spaceRaces.remove(race);
+        SpaceRaceManager.onMembershipChanged();
     }
 
-    public static void tick()
+    /**
+     * Call this after adding or removing names in a SpaceRace's player list
+     */
+    public static void onMembershipChanged()
+    {
+        SpaceRaceManager.indexDirty = true;
+    }
+
+    private static void updateIndex()
     {
+        if (!SpaceRaceManager.indexDirty)
+        {
+            return;
+        }
+
+        SpaceRaceManager.indexDirty = false;
+        SpaceRaceManager.playerIndex.clear();
+
         for (SpaceRace race : SpaceRaceManager.spaceRaces)
         {
-            boolean playerOnline = false;
+            for (String name : race.getPlayerNames())
+            {
+                SpaceRaceManager.playerIndex.put(name, race);
+            }
+        }
 
-            for (int j = 0; j < MinecraftServer.getServer().getConfigurationManager().playerEntityList.size(); j++)
+        //A player who just joined a team may already be standing on a celestial body
+        MinecraftServer server = MinecraftServer.getServer();
+        if (server != null && server.getConfigurationManager() != null)
+        {
+            for (UUID id : SpaceRaceManager.onlinePlayers.keySet())
             {
-                Object o = MinecraftServer.getServer().getConfigurationManager().playerEntityList.get(j);
+                SpaceRaceManager.checkCelestialBodyReached(server.getConfigurationManager().getPlayerByUUID(id));
+            }
+        }
+    }
 
-                if (o instanceof EntityPlayer)
-                {
-                    EntityPlayer player = (EntityPlayer) o;
-
-                    if (race.getPlayerNames().contains(player.getGameProfile().getName()))
-                    {
-                        CelestialBody body = GalaxyRegistry.getCelestialBodyFromDimensionID(GCCoreUtil.getDimensionID(player.worldObj));
-
-                        if (body != null)
-                        {
-                            if (!race.getCelestialBodyStatusList().containsKey(body))
-                            {
-                                race.setCelestialBodyReached(body);
-                            }
-                        }
-
-                        playerOnline = true;
-                    }
-                }
+    public static void tick()
+    {
+        SpaceRaceManager.updateIndex();
+
+        Set<SpaceRace> racesOnline = new HashSet<SpaceRace>();
+
+        for (String name : SpaceRaceManager.onlinePlayers.values())
+        {
+            SpaceRace race = SpaceRaceManager.playerIndex.get(name);
+
+            if (race != null)
+            {
+                racesOnline.add(race);
             }
+        }
+
+        for (SpaceRace race : racesOnline)
+        {
+            race.tick();
+        }
+    }
+
+    public static void onPlayerLogin(EntityPlayer player)
+    {
+        SpaceRaceManager.onlinePlayers.put(player.getUniqueID(), player.getGameProfile().getName());
+        SpaceRaceManager.checkCelestialBodyReached(player);
+    }
+
+    public static void onPlayerLogout(EntityPlayer player)
+    {
+        SpaceRaceManager.onlinePlayers.remove(player.getUniqueID());
+    }
+
+    public static void onPlayerChangedDimension(EntityPlayer player)
+    {
+        SpaceRaceManager.checkCelestialBodyReached(player);
+    }
+
+    private static void checkCelestialBodyReached(EntityPlayer player)
+    {
+        if (player == null || player.worldObj == null)
+        {
+            return;
+        }
+
+        SpaceRace race = SpaceRaceManager.getSpaceRaceFromPlayer(player.getGameProfile().getName());
 
-            if (playerOnline)
+        if (race != null)
+        {
+            CelestialBody body = GalaxyRegistry.getCelestialBodyFromDimensionID(GCCoreUtil.getDimensionID(player.worldObj));
+
+            if (body != null)
             {
-                race.tick();
+                if (!race.getCelestialBodyStatusList().containsKey(body))
+                {
+                    race.setCelestialBodyReached(body);
+                }
             }
         }
     }
 
+    public static void clearOnlinePlayers()
+    {
+        SpaceRaceManager.onlinePlayers.clear();
+    }
+
     public static void loadSpaceRaces(NBTTagCompound nbt)
     {
         NBTTagList tagList = nbt.getTagList("SpaceRaceList", 10);
@@ -92,6 +165,8 @@ public class SpaceRaceManager
             race.loadFromNBT(nbt2);
             SpaceRaceManager.spaceRaces.add(race);
         }
+
+        SpaceRaceManager.onMembershipChanged();
     }
 
     public static void saveSpaceRaces(NBTTagCompound nbt)
@@ -110,15 +185,18 @@ public class SpaceRaceManager
 
     public static SpaceRace getSpaceRaceFromPlayer(String username)
     {
-        for (SpaceRace race : SpaceRaceManager.spaceRaces)
+        SpaceRaceManager.updateIndex();
+        SpaceRace race = SpaceRaceManager.playerIndex.get(username);
+
+        //Safety net in case a player list was changed without calling onMembershipChanged()
+        if (race != null && !race.getPlayerNames().contains(username))
         {
-            if (race.getPlayerNames().contains(username))
-            {
-                return race;
-            }
+            SpaceRaceManager.indexDirty = true;
+            SpaceRaceManager.updateIndex();
+            race = SpaceRaceManager.playerIndex.get(username);
         }
 
-        return null;
+        return race;
     }
 
     public static SpaceRace getSpaceRaceFromID(int teamID)
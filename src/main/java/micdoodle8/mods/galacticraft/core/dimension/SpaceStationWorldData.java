@@ -55,6 +55,17 @@ public class SpaceStationWorldData extends WorldSavedData
         };
     }
 
+    @Override
+    public void setDirty(boolean dirty)
+    {
+        super.setDirty(dirty);
+        //Any change to a station (permissions, owner, name) can change the players' rocket destination lists
+        if (dirty)
+        {
+            WorldUtil.markDestinationsChanged();
+        }
+    }
+
     public ArrayList<String> getAllowedPlayers()
     {
         return this.allowedPlayers;
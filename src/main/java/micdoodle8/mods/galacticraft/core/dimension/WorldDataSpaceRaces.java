@@ -1,10 +1,10 @@
 package micdoodle8.mods.galacticraft.core.dimension;
 
+import micdoodle8.mods.galacticraft.core.util.AsyncWorldSavedData;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
-import net.minecraft.world.WorldSavedData;
 
-public class WorldDataSpaceRaces extends WorldSavedData
+public class WorldDataSpaceRaces extends AsyncWorldSavedData
 {
     public static final String saveDataID = "GCSpaceRaceData";
     private NBTTagCompound dataCompound;
@@ -42,8 +42,9 @@ public class WorldDataSpaceRaces extends WorldSavedData
     }
 
     @Override
-    public boolean isDirty()
+    public boolean isPendingSave()
     {
+        //Changes to space races are not tracked, so this is saved every time (it always was)
         return true;
     }
 }
@@ -3,6 +3,7 @@ package micdoodle8.mods.galacticraft.core.dimension;
 import net.minecraft.world.biome.WorldChunkManager;
 import net.minecraft.world.chunk.IChunkProvider;
 import micdoodle8.mods.galacticraft.api.prefab.world.gen.WorldProviderSpace;
+import micdoodle8.mods.galacticraft.core.util.GCProfiler;
 import micdoodle8.mods.galacticraft.core.world.gen.ChunkProviderOrbit;
 import micdoodle8.mods.galacticraft.core.world.gen.WorldChunkManagerOrbit;
 
@@ -48,6 +49,15 @@ public abstract class WorldProviderSpaceStation extends WorldProviderSpace
     public void updateWeather()
     {
         super.updateWeather();
-        spinManager.updateSpin();
+        if (this.worldObj.isRemote)
+        {
+            spinManager.updateSpin();
+        }
+        else
+        {
+            long profileStart = GCProfiler.start();
+            spinManager.updateSpin();
+            GCProfiler.end(GCProfiler.Section.SPIN, this.getDimensionId(), profileStart);
+        }
     }
 }
@@ -2,9 +2,9 @@ package micdoodle8.mods.galacticraft.core.energy.grid;
 
 import com.google.common.collect.Lists;
 import micdoodle8.mods.galacticraft.api.transmission.tile.INetworkConnection;
-import micdoodle8.mods.galacticraft.core.event.EventHandlerGC;
 import micdoodle8.mods.galacticraft.core.util.ConfigManagerCore;
 import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
+import micdoodle8.mods.galacticraft.core.world.OilRetrogenTracker;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.world.ChunkEvent;
@@ -56,7 +56,7 @@ public class ChunkPowerHandler
 
             if (ConfigManagerCore.retrogenOil && GCCoreUtil.getDimensionID(event.world) == 0)
             {
-                EventHandlerGC.retrogenOil(event.world, event.getChunk());
+                OilRetrogenTracker.onChunkLoad(event.getChunk().xPosition, event.getChunk().zPosition);
             }
         }
     }
@@ -45,10 +45,17 @@ public class EnergyNetwork implements IElectricityNetwork
      */
     public static int tickCount = 0;
     private int tickDone = -1;
-    private float totalRequested = 0F;
-    private float totalStorageExcess = 0F;
-    private float totalEnergy = 0F;
-    private float totalSent = 0F;
+
+    /*
+     * All the grid's internal bookkeeping is fixed point, in units of 1/ENERGY_UNITS gJ, so that totals
+     * summed over many acceptors are exact and do not drift at high flows.  Floats are only used at the
+     * API boundary (produce(), getRequest() and the calls into acceptors).
+     */
+    public static final long ENERGY_UNITS = 1000L;
+    private long totalRequested = 0L;
+    private long totalStorageExcess = 0L;
+    private long totalEnergy = 0L;
+    private long totalSent = 0L;
     private boolean doneScheduled = false;
     private boolean spamstop = false;
     private boolean loopPrevention = false;
@@ -73,13 +80,38 @@ public class EnergyNetwork implements IElectricityNetwork
     private Set<TileEntity> availableAcceptors = new HashSet<TileEntity>();
     private Map<TileEntity, EnumFacing> availableconnectedDirections = new HashMap<TileEntity, EnumFacing>();
 
-    private Map<TileEntity, Float> energyRequests = new HashMap<TileEntity, Float>();
+    private Map<TileEntity, Long> energyRequests = new HashMap<TileEntity, Long>();
     private List<TileEntity> ignoreAcceptors = new LinkedList<TileEntity>();
 
     private final Set<IConductor> conductors = new HashSet<IConductor>();
 
     //This is an energy per tick which exceeds what any normal machine will request, so the requester must be an energy storage - for example, a battery or an energy cube
-    private final static float ENERGY_STORAGE_LEVEL = 200F;
+    private final static long ENERGY_STORAGE_LEVEL = 200L * ENERGY_UNITS;
+
+    //Metrics for the last tick this network delivered energy, see getStats()
+    private static final Set<EnergyNetwork> allNetworks = Collections.newSetFromMap(new WeakHashMap<EnergyNetwork, Boolean>());
+    private int statsTick = -1;
+    private int statsAcceptors;
+    private long statsRequested;
+    private long statsDelivered;
+    private long statsSolverNanos;
+
+    //Cap on any single value converted to fixed point, so that totals can never overflow
+    private static final long MAX_FIXED = Long.MAX_VALUE >> 8;
+
+    /**
+     * Rounded to the nearest unit, so that toFixed(toFloat(n)) == n and an acceptor which takes
+     * exactly what it was offered is credited with exactly that
+     */
+    public static long toFixed(float energy)
+    {
+        return Math.min(Math.round((double) energy * ENERGY_UNITS), MAX_FIXED);
+    }
+
+    public static float toFloat(long energy)
+    {
+        return (float) ((double) energy / ENERGY_UNITS);
+    }
 
     @Override
     public Set<IConductor> getTransmitters()
@@ -103,7 +135,7 @@ public class EnergyNetwork implements IElectricityNetwork
             this.ignoreAcceptors.addAll(Arrays.asList(ignoreTiles));
             this.doTickStartCalc();
         }
-        return this.totalRequested - this.totalEnergy - this.totalSent;
+        return toFloat(this.totalRequested - this.totalEnergy - this.totalSent);
     }
 
     /**
@@ -112,7 +144,9 @@ public class EnergyNetwork implements IElectricityNetwork
      * @param energy      Amount of energy to send into the network
      * @param doReceive   Whether to put energy into the network (true) or just simulate (false)
      * @param ignoreTiles TileEntities to ignore for energy transfers.
-     * @return Amount of energy REMAINING from the passed energy parameter
+     * @return Amount of energy REMAINING from the passed energy parameter.  An amount which rounds to
+     *         less than one fixed point unit (0.001 gJ) is not taken at all, so it stays with the
+     *         producer instead of being lost.
      */
     @Override
     public float produce(float energy, boolean doReceive, int producerTier, TileEntity... ignoreTiles)
@@ -138,7 +172,7 @@ public class EnergyNetwork implements IElectricityNetwork
                 this.ignoreAcceptors.addAll(Arrays.asList(ignoreTiles));
             }
 
-            if (!this.doneScheduled && this.totalRequested > 0.0F)
+            if (!this.doneScheduled && this.totalRequested > 0L)
             {
                 TickHandlerServer.scheduleNetworkTick(this);
                 this.doneScheduled = true;
@@ -146,20 +180,26 @@ public class EnergyNetwork implements IElectricityNetwork
 
             //On a regular mid-tick produce(), just figure out how much is totalEnergy this tick and return the used amount
             //This will return 0 if totalRequested is 0 - for example a network with no acceptors
-            float totalEnergyLast = this.totalEnergy;
+            long totalEnergyLast = this.totalEnergy;
+            long energyFixed = toFixed(energy);
+
+            if (energyFixed == 0L)
+            {
+                return energy; //Too little to count: the producer keeps it
+            }
 
             //Add the energy for distribution by this grid later this tick
             //Note: totalEnergy cannot exceed totalRequested
             if (doReceive)
             {
-                this.totalEnergy += Math.min(energy, this.totalRequested - totalEnergyLast);
+                this.totalEnergy += Math.min(energyFixed, this.totalRequested - totalEnergyLast);
                 if (producerTier > 1)
                 {
                     this.producersTierGC = 2;
                 }
             }
 
-            if (this.totalRequested >= totalEnergyLast + energy)
+            if (this.totalRequested >= totalEnergyLast + energyFixed)
             {
                 return 0F; //All the electricity will be used
             }
@@ -167,7 +207,7 @@ public class EnergyNetwork implements IElectricityNetwork
             {
                 return energy; //None of the electricity will be used
             }
-            return totalEnergyLast + energy - this.totalRequested; //Some of the electricity will be used
+            return toFloat(totalEnergyLast + energyFixed - this.totalRequested); //Some of the electricity will be used
         }
         return energy;
     }
@@ -181,13 +221,16 @@ public class EnergyNetwork implements IElectricityNetwork
         this.loopPrevention = true;
 
         //Finish the last tick if there was some to send and something to receive it
-        if (this.totalEnergy > 0F)
+        if (this.totalEnergy > 0L)
         {
+            long solverStart = System.nanoTime();
+
             //Call doTickStartCalc a second time in case anything has updated meanwhile
             this.doTickStartCalc();
 
-            if (this.totalRequested > 0F)
+            if (this.totalRequested > 0L)
             {
+                this.statsRequested = this.totalRequested;
                 this.totalSent = this.doProduce();
                 if (this.totalSent < this.totalEnergy)
                 {
@@ -196,17 +239,25 @@ public class EnergyNetwork implements IElectricityNetwork
                 }
                 else
                 {
-                    this.totalEnergy = 0F;
+                    this.totalEnergy = 0L;
                 }
             }
             else
             {
-                this.totalEnergy = 0F;
+                this.statsRequested = 0L;
+                this.totalSent = 0L;
+                this.totalEnergy = 0L;
             }
+
+            this.statsTick = EnergyNetwork.tickCount;
+            this.statsAcceptors = this.availableAcceptors.size();
+            this.statsDelivered = this.totalSent;
+            this.statsSolverNanos = System.nanoTime() - solverStart;
+            EnergyNetwork.allNetworks.add(this);
         }
         else
         {
-            this.totalEnergy = 0F;
+            this.totalEnergy = 0L;
         }
 
         this.loopPrevention = false;
@@ -218,7 +269,7 @@ public class EnergyNetwork implements IElectricityNetwork
     private void doTickStartCalc()
     {
         this.tickDone = EnergyNetwork.tickCount;
-        this.totalSent = 0F;
+        this.totalSent = 0L;
         this.refreshAcceptors();
 
         if (!EnergyUtil.initialisedIC2Methods)
@@ -236,12 +287,13 @@ public class EnergyNetwork implements IElectricityNetwork
         this.availableAcceptors.clear();
         this.availableconnectedDirections.clear();
         this.energyRequests.clear();
-        this.totalRequested = 0.0F;
-        this.totalStorageExcess = 0F;
+        this.totalRequested = 0L;
+        this.totalStorageExcess = 0L;
 
         if (!this.connectedAcceptors.isEmpty())
         {
             float e;
+            long eFixed;
             final Iterator<EnumFacing> acceptorDirection = this.connectedDirections.iterator();
             for (TileEntity acceptor : this.connectedAcceptors)
             {
@@ -284,15 +336,16 @@ public class EnergyNetwork implements IElectricityNetwork
                         e = ((IEnergyReceiver) acceptor).receiveEnergy(sideFrom, Integer.MAX_VALUE, true) / EnergyConfigHandler.TO_RF_RATIO;
                     }
 
-                    if (e > 0.0F)
+                    eFixed = toFixed(e);
+                    if (eFixed > 0L)
                     {
                         this.availableAcceptors.add(acceptor);
                         this.availableconnectedDirections.put(acceptor, sideFrom);
-                        this.energyRequests.put(acceptor, e);
-                        this.totalRequested += e;
-                        if (e > EnergyNetwork.ENERGY_STORAGE_LEVEL)
+                        this.energyRequests.put(acceptor, eFixed);
+                        this.totalRequested += eFixed;
+                        if (eFixed > EnergyNetwork.ENERGY_STORAGE_LEVEL)
                         {
-                            this.totalStorageExcess += e - EnergyNetwork.ENERGY_STORAGE_LEVEL;
+                            this.totalStorageExcess += eFixed - EnergyNetwork.ENERGY_STORAGE_LEVEL;
                         }
                     }
                 }
@@ -305,18 +358,18 @@ public class EnergyNetwork implements IElectricityNetwork
     /**
      * Complete the energy transfer. Called internally on server tick end.
      *
-     * @return Amount of energy SENT to all acceptors
+     * @return Amount of energy SENT to all acceptors (fixed point)
      */
-    private float doProduce()
+    private long doProduce()
     {
-        float sent = 0.0F;
+        long sent = 0L;
 
         if (!this.availableAcceptors.isEmpty())
         {
-            float energyNeeded = this.totalRequested;
-            float energyAvailable = this.totalEnergy;
-            float reducor = 1.0F;
-            float energyStorageReducor = 1.0F;
+            long energyNeeded = this.totalRequested;
+            long energyAvailable = this.totalEnergy;
+            double reducor = 1.0D;
+            double energyStorageReducor = 1.0D;
 
             if (energyNeeded > energyAvailable)
             {
@@ -325,18 +378,20 @@ public class EnergyNetwork implements IElectricityNetwork
                 //If there's still not enough, put the minimum into energy storage (if any) and, anyhow, reduce everything proportionately
                 if (energyNeeded > energyAvailable)
                 {
-                    energyStorageReducor = 0F;
-                    reducor = energyAvailable / energyNeeded;
+                    energyStorageReducor = 0D;
+                    reducor = (double) energyAvailable / energyNeeded;
                 }
                 else
                 {
                     //Energyavailable exceeds the total needed but only if storage does not fill all in one go - this is a common situation
-                    energyStorageReducor = (energyAvailable - energyNeeded) / this.totalStorageExcess;
+                    energyStorageReducor = (double) (energyAvailable - energyNeeded) / this.totalStorageExcess;
                 }
             }
 
+            long currentSendingFixed;
             float currentSending;
             float sentToAcceptor;
+            long sentFixed;
             int tierProduced = Math.min(this.producersTierGC, this.networkTierGC);
 
             TileEntity debugTE = null;
@@ -352,22 +407,27 @@ public class EnergyNetwork implements IElectricityNetwork
                     }
 
                     //The base case is to give each acceptor what it is requesting
-                    currentSending = this.energyRequests.get(tileEntity);
+                    currentSendingFixed = this.energyRequests.get(tileEntity);
 
                     //If it's an energy store, we may need to damp it down if energyStorageReducor is less than 1
-                    if (currentSending > EnergyNetwork.ENERGY_STORAGE_LEVEL)
+                    if (currentSendingFixed > EnergyNetwork.ENERGY_STORAGE_LEVEL && energyStorageReducor < 1.0D)
                     {
-                        currentSending = EnergyNetwork.ENERGY_STORAGE_LEVEL + (currentSending - EnergyNetwork.ENERGY_STORAGE_LEVEL) * energyStorageReducor;
+                        currentSendingFixed = EnergyNetwork.ENERGY_STORAGE_LEVEL + (long) ((currentSendingFixed - EnergyNetwork.ENERGY_STORAGE_LEVEL) * energyStorageReducor);
                     }
 
                     //Reduce everything proportionately if there is not enough energy for all needs
-                    currentSending *= reducor;
+                    if (reducor < 1.0D)
+                    {
+                        currentSendingFixed = (long) (currentSendingFixed * reducor);
+                    }
 
-                    if (currentSending > energyAvailable - sent)
+                    if (currentSendingFixed > energyAvailable - sent)
                     {
-                        currentSending = energyAvailable - sent;
+                        currentSendingFixed = energyAvailable - sent;
                     }
 
+                    currentSending = toFloat(currentSendingFixed);
+
                     EnumFacing sideFrom = this.availableconnectedDirections.get(tileEntity);
 
                     if (tileEntity instanceof IElectrical)
@@ -423,17 +483,23 @@ public class EnergyNetwork implements IElectricityNetwork
                         sentToAcceptor = 0F;
                     }
 
-                    if (sentToAcceptor / currentSending > 1.002F && sentToAcceptor > 0.01F)
+                    //An acceptor can never be credited with more than it was offered
+                    sentFixed = toFixed(sentToAcceptor);
+                    if (sentFixed > currentSendingFixed)
                     {
-                        if (!this.spamstop)
+                        if (sentToAcceptor / currentSending > 1.002F && sentToAcceptor > 0.01F && !this.spamstop)
                         {
                             FMLLog.info("Energy network: acceptor took too much energy, offered " + currentSending + ", took " + sentToAcceptor + ". " + tileEntity.toString());
                             this.spamstop = true;
                         }
-                        sentToAcceptor = currentSending;
+                        sentFixed = currentSendingFixed;
+                    }
+                    else if (sentFixed < 0L)
+                    {
+                        sentFixed = 0L;
                     }
 
-                    sent += sentToAcceptor;
+                    sent += sentFixed;
                 }
             }
             catch (Exception e)
@@ -451,14 +517,14 @@ public class EnergyNetwork implements IElectricityNetwork
             this.spamstop = false;
         }
 
-        float returnvalue = sent;
+        long returnvalue = sent;
         if (returnvalue > this.totalEnergy)
         {
             returnvalue = this.totalEnergy;
         }
-        if (returnvalue < 0F)
+        if (returnvalue < 0L)
         {
-            returnvalue = 0F;
+            returnvalue = 0L;
         }
         return returnvalue;
     }
@@ -614,14 +680,37 @@ public class EnergyNetwork implements IElectricityNetwork
         return this;
     }
 
+    /**
+     * Combine several networks and some new conductors into this network in one go
+     * (used when building networks for many conductors placed in the same tick)
+     *
+     * @param networks   Networks to join into this one (may include this network)
+     * @param conductors New conductors to add to this network
+     */
+    public void absorb(Collection<EnergyNetwork> networks, Collection<? extends IConductor> conductors)
+    {
+        for (EnergyNetwork network : networks)
+        {
+            if (network != this)
+            {
+                this.conductors.addAll(network.getTransmitters());
+                network.destroy();
+            }
+        }
+
+        this.conductors.addAll(conductors);
+        this.refresh();
+    }
+
     private void destroy()
     {
         this.conductors.clear();
         this.connectedAcceptors.clear();
         this.availableAcceptors.clear();
-        this.totalEnergy = 0F;
-        this.totalRequested = 0F;
+        this.totalEnergy = 0L;
+        this.totalRequested = 0L;
         TickHandlerServer.removeNetworkTick(this);
+        EnergyNetwork.allNetworks.remove(this);
     }
 
     @Override
@@ -725,6 +814,62 @@ public class EnergyNetwork implements IElectricityNetwork
         }
     }
 
+    /**
+     * @return True if this network delivered energy within the last second
+     */
+    public boolean hasRecentStats()
+    {
+        return this.statsTick >= 0 && EnergyNetwork.tickCount - this.statsTick <= 20;
+    }
+
+    /**
+     * Number of acceptors which requested energy in the last tick this network was active
+     */
+    public int getStatsAcceptors()
+    {
+        return this.statsAcceptors;
+    }
+
+    /**
+     * Energy requested in the last tick this network was active, in fixed point units (see ENERGY_UNITS)
+     */
+    public long getStatsRequested()
+    {
+        return this.statsRequested;
+    }
+
+    /**
+     * Energy delivered in the last tick this network was active, in fixed point units (see ENERGY_UNITS)
+     */
+    public long getStatsDelivered()
+    {
+        return this.statsDelivered;
+    }
+
+    /**
+     * Time taken to solve and deliver the energy in the last tick this network was active
+     */
+    public long getStatsSolverNanos()
+    {
+        return this.statsSolverNanos;
+    }
+
+    /**
+     * @return All the networks which delivered energy within the last second
+     */
+    public static List<EnergyNetwork> getActiveNetworks()
+    {
+        List<EnergyNetwork> result = new ArrayList<EnergyNetwork>();
+        for (EnergyNetwork network : EnergyNetwork.allNetworks)
+        {
+            if (network.hasRecentStats() && !network.conductors.isEmpty())
+            {
+                result.add(network);
+            }
+        }
+        return result;
+    }
+
     @Override
     public String toString()
     {
@@ -36,6 +36,18 @@ public abstract class TileBaseElectricBlock extends TileBaseUniversalElectrical
     public boolean hasEnoughEnergyToRun = false;
     public boolean noRedstoneControl = false;
 
+    //Redstone state is cached: it is checked again after a neighbour changes, and every couple of seconds in case a change was missed
+    private static final int REDSTONE_RECHECK_TICKS = 40;
+    private boolean redstonePowered = false;
+    private boolean redstoneStale = true;
+    private int redstoneRecheckTicks = 0;
+
+    //Sleep mode: a machine with nothing to do only runs a full update() every SLEEP_INTERVAL ticks, until something wakes it
+    private static final int IDLE_TICKS_BEFORE_SLEEP = 20;
+    private static final int SLEEP_INTERVAL = 20;
+    private int idleTicks = 0;
+    private int sleepTicks = 0;
+
     public boolean shouldPullEnergy()
     {
         return this.shouldUseEnergy() || this.getEnergyStoredGC(null) < this.getMaxEnergyStoredGC();
@@ -103,7 +115,14 @@ public abstract class TileBaseElectricBlock extends TileBaseUniversalElectrical
                 this.discharge(this.getBatteryInSlot());
             }
 
-            if (this.getEnergyStoredGC(null) > this.storage.getMaxExtract() && (this.noRedstoneControl || !RedstoneUtil.isBlockReceivingRedstone(this.worldObj, this.getPos())))
+            if (!this.noRedstoneControl && (this.redstoneStale || --this.redstoneRecheckTicks <= 0))
+            {
+                this.redstonePowered = RedstoneUtil.isBlockReceivingRedstone(this.worldObj, this.getPos());
+                this.redstoneStale = false;
+                this.redstoneRecheckTicks = TileBaseElectricBlock.REDSTONE_RECHECK_TICKS;
+            }
+
+            if (this.getEnergyStoredGC(null) > this.storage.getMaxExtract() && (this.noRedstoneControl || !this.redstonePowered))
             {
                 this.hasEnoughEnergyToRun = true;
                 if (this.shouldUseEnergy())
@@ -133,6 +152,107 @@ public abstract class TileBaseElectricBlock extends TileBaseUniversalElectrical
         }
     }
 
+    /**
+     * Called by BlockAdvanced when a neighbouring block changes.
+     */
+    public void onNeighborChanged()
+    {
+        this.redstoneStale = true;
+        this.wakeUp();
+    }
+
+    /**
+     * Machines which can sleep override this to return true when there is nothing for them to do:
+     * no recipe to work on and nothing to move in or out.  A battery waiting to be discharged is
+     * checked separately.
+     */
+    protected boolean isIdle()
+    {
+        return false;
+    }
+
+    /**
+     * Call this first thing in update() in machines which override isIdle().  It returns true while
+     * the machine is asleep, and then the rest of update() should be skipped.
+     */
+    protected boolean sleepTick()
+    {
+        if (this.worldObj.isRemote)
+        {
+            return false;
+        }
+
+        if (this.sleepTicks > 0)
+        {
+            //Energy arriving or running out changes what the machine can do: wake straight away
+            if (this.getEnergyStoredGC(null) > this.storage.getMaxExtract() != this.hasEnoughEnergyToRun)
+            {
+                this.wakeUp();
+                return false;
+            }
+
+            if (--this.sleepTicks > 0)
+            {
+                return true;
+            }
+
+            //A full update now and then in case a change was missed: back to sleep straight after if still idle
+            this.idleTicks = TileBaseElectricBlock.IDLE_TICKS_BEFORE_SLEEP - 1;
+            return false;
+        }
+
+        if (this.isIdle() && (this.getBatteryInSlot() == null || this.getEnergyStoredGC() >= this.getMaxEnergyStoredGC()))
+        {
+            if (++this.idleTicks >= TileBaseElectricBlock.IDLE_TICKS_BEFORE_SLEEP)
+            {
+                this.sleepTicks = TileBaseElectricBlock.SLEEP_INTERVAL;
+                return true;
+            }
+        }
+        else
+        {
+            this.idleTicks = 0;
+        }
+
+        return false;
+    }
+
+    /**
+     * Call when something happens which might give a sleeping machine work to do.  Inventory changes
+     * (markDirty), neighbour changes, enabling / disabling and the stored energy crossing the level
+     * needed to run already do this.
+     */
+    public void wakeUp()
+    {
+        this.sleepTicks = 0;
+        this.idleTicks = 0;
+    }
+
+    public boolean isSleeping()
+    {
+        return this.sleepTicks > 0;
+    }
+
+    @Override
+    public void markDirty()
+    {
+        super.markDirty();
+        this.wakeUp();
+    }
+
+    /**
+     * Whether this machine is switched off by redstone.  On the server this is the cached state.
+     */
+    public boolean isRedstonePowered()
+    {
+        if (this.worldObj.isRemote || this.redstoneStale)
+        {
+            return RedstoneUtil.isBlockReceivingRedstone(this.worldObj, this.getPos());
+        }
+
+        return this.redstonePowered;
+    }
+
     public void slowDischarge()
     {
         this.storage.extractEnergyGC(0.5F, false);
@@ -161,6 +281,7 @@ public abstract class TileBaseElectricBlock extends TileBaseUniversalElectrical
         {
             this.disabled = disabled;
             this.disableCooldown = 10;
+            this.wakeUp();
         }
     }
 
@@ -227,7 +348,7 @@ public abstract class TileBaseElectricBlock extends TileBaseUniversalElectrical
 
     public String getGUIstatus()
     {
-        if (!this.noRedstoneControl && RedstoneUtil.isBlockReceivingRedstone(this.worldObj, this.getPos()))
+        if (!this.noRedstoneControl && this.isRedstonePowered())
         {
             return EnumColor.DARK_RED + GCCoreUtil.translate("gui.status.off.name");
         }
@@ -4,6 +4,7 @@ import micdoodle8.mods.galacticraft.api.vector.Vector3;
 import micdoodle8.mods.galacticraft.core.GCBlocks;
 import micdoodle8.mods.galacticraft.core.GalacticraftCore;
 import micdoodle8.mods.galacticraft.core.util.ConfigManagerCore;
+import micdoodle8.mods.galacticraft.core.world.MeteorScheduler;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
@@ -18,9 +19,20 @@ import java.util.List;
 
 public class EntityMeteor extends Entity
 {
+    //Collision tests start when the meteor comes this close to the ground (or anything built on it) below its path
+    private static final int COLLISION_HEIGHT = 16;
+    private static final double GRAVITY = 0.03999999910593033D;
+    private static final int MAX_FLIGHT_TICKS = 400;
+
     public EntityLiving shootingEntity;
     public int size;
 
+    //Ticks before the meteor can hit anything, worked out from its trajectory: -1 if not worked out yet
+    private int collisionDelay = -1;
+    private double predictedMotionX;
+    private double predictedMotionY;
+    private double predictedMotionZ;
+
     public EntityMeteor(World world)
     {
         super(world);
@@ -47,7 +59,15 @@ public class EntityMeteor extends Entity
         this.prevPosX = this.posX;
         this.prevPosY = this.posY;
         this.prevPosZ = this.posZ;
-        this.motionY -= 0.03999999910593033D;
+
+        //Work out the trajectory again if something (an explosion) knocked the meteor off its predicted path
+        if (this.collisionDelay < 0 || this.motionX != this.predictedMotionX || this.motionY != this.predictedMotionY || this.motionZ != this.predictedMotionZ)
+        {
+            this.computeTrajectory();
+        }
+
+        this.motionY -= EntityMeteor.GRAVITY;
+        this.predictedMotionY = this.motionY;
         this.moveEntity(this.motionX, this.motionY, this.motionZ);
 
         if (this.worldObj.isRemote)
@@ -55,6 +75,17 @@ public class EntityMeteor extends Entity
             this.spawnParticles();
         }
 
+        if (this.collisionDelay > 0)
+        {
+            this.collisionDelay--;
+            //Nothing built is in reach yet, but a player high above the ground (with a jetpack, or in a lander or rocket) could be
+            if (!this.isPlayerNearPath())
+            {
+                this.checkOutOfWorld();
+                return;
+            }
+        }
+
         Vec3 var15 = new Vec3(this.posX, this.posY, this.posZ);
         Vec3 var2 = new Vec3(this.posX + this.motionX, this.posY + this.motionY, this.posZ + this.motionZ);
         MovingObjectPosition var3 = this.worldObj.rayTraceBlocks(var15, var2, true, true, false);
@@ -104,12 +135,104 @@ public class EntityMeteor extends Entity
             this.onImpact(var3);
         }
 
+        this.checkOutOfWorld();
+    }
+
+    private boolean isPlayerNearPath()
+    {
+        final AxisAlignedBB box = this.getEntityBoundingBox().addCoord(this.motionX, this.motionY, this.motionZ).expand(2.0D, 2.0D, 2.0D);
+
+        for (EntityPlayer player : this.worldObj.playerEntities)
+        {
+            if (player.getEntityBoundingBox().intersectsWith(box) || (player.ridingEntity != null && player.ridingEntity.getEntityBoundingBox().intersectsWith(box)))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void checkOutOfWorld()
+    {
         if (this.posY <= -20 || this.posY >= 400)
         {
             this.setDead();
         }
     }
 
+    /**
+     * Follow the meteor's ballistic path forward (as onUpdate will move it) until the segment it
+     * would test for collisions comes within COLLISION_HEIGHT of the top of the ground below -
+     * until then there is nothing built for it to hit, so onUpdate can skip the ray trace and entity
+     * search, unless a player (or what they are riding) is near.
+     * Uses the precipitation height, which counts every block which stops movement (including glass),
+     * over every column under the segment, so a thin pillar between its ends is not missed.
+     * A column in an unloaded chunk stops the search, so that collisions are tested from there on.
+     */
+    private void computeTrajectory()
+    {
+        double x = this.posX;
+        double y = this.posY;
+        double z = this.posZ;
+        double motY = this.motionY;
+        int ticks = 0;
+
+        while (ticks < EntityMeteor.MAX_FLIGHT_TICKS)
+        {
+            motY -= EntityMeteor.GRAVITY;
+            x += this.motionX;
+            y += motY;
+            z += this.motionZ;
+
+            if (y <= -20 || y >= 400)
+            {
+                break;
+            }
+
+            int ground = this.getGroundHeight(x, z, x + this.motionX, z + this.motionZ);
+            if (Math.min(y, y + motY) - EntityMeteor.COLLISION_HEIGHT <= ground)
+            {
+                break;
+            }
+
+            ticks++;
+        }
+
+        this.collisionDelay = ticks;
+        this.predictedMotionX = this.motionX;
+        this.predictedMotionY = this.motionY;
+        this.predictedMotionZ = this.motionZ;
+    }
+
+    /**
+     * @return The height of the highest movement blocking block in the columns from x1, z1 to x2, z2
+     * (inclusive, in either order), or Integer.MAX_VALUE if any of them is not loaded
+     */
+    private int getGroundHeight(double x1, double z1, double x2, double z2)
+    {
+        int minX = MathHelper.floor_double(Math.min(x1, x2));
+        int maxX = MathHelper.floor_double(Math.max(x1, x2));
+        int minZ = MathHelper.floor_double(Math.min(z1, z2));
+        int maxZ = MathHelper.floor_double(Math.max(z1, z2));
+        int ground = Integer.MIN_VALUE;
+
+        for (int cx = minX; cx <= maxX; cx++)
+        {
+            for (int cz = minZ; cz <= maxZ; cz++)
+            {
+                BlockPos pos = new BlockPos(cx, 0, cz);
+                if (!this.worldObj.isBlockLoaded(pos))
+                {
+                    return Integer.MAX_VALUE;
+                }
+                ground = Math.max(ground, this.worldObj.getPrecipitationHeight(pos).getY());
+            }
+        }
+
+        return ground;
+    }
+
     protected void spawnParticles()
     {
         GalacticraftCore.proxy.spawnParticle("distanceSmoke", new Vector3(this.posX, this.posY + 1D + Math.random(), this.posZ), new Vector3(0.0D, 0.0D, 0.0D), new Object[] {});
@@ -136,7 +259,8 @@ public class EntityMeteor extends Entity
                 }
             }
 
-            this.worldObj.newExplosion(this, this.posX, this.posY, this.posZ, this.size / 3 + 2, false, true);
+            //The explosion goes off at the end of the tick, or later if many meteors hit at once
+            MeteorScheduler.scheduleImpact(this);
         }
 
         this.setDead();
@@ -20,9 +20,9 @@ import micdoodle8.mods.galacticraft.core.dimension.SpaceRaceManager;
 import micdoodle8.mods.galacticraft.core.dimension.WorldProviderSpaceStation;
 import micdoodle8.mods.galacticraft.core.entities.EntityCelestialFake;
 import micdoodle8.mods.galacticraft.core.entities.EntityLanderBase;
-import micdoodle8.mods.galacticraft.core.entities.EntityMeteor;
 import micdoodle8.mods.galacticraft.core.entities.EntityParachest;
 import micdoodle8.mods.galacticraft.core.items.ItemParaChute;
+import micdoodle8.mods.galacticraft.core.network.PacketPlayerHud;
 import micdoodle8.mods.galacticraft.core.network.PacketSimple;
 import micdoodle8.mods.galacticraft.core.network.PacketSimple.EnumSimplePacket;
 import micdoodle8.mods.galacticraft.core.tick.TickHandlerServer;
@@ -65,7 +65,6 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 import java.util.*;
-import java.util.Map.Entry;
 
 public class GCPlayerHandler
 {
@@ -285,7 +284,6 @@ public class GCPlayerHandler
             {
                 GCPlayerHandler.sendGearUpdatePacket(player, EnumModelPacketType.REMOVE, EnumExtendedInventorySlot.LEFT_TANK);
                 stats.setAirRemaining(0);
-                GCPlayerHandler.sendAirRemainingPacket(player, stats);
             }
             else if (stats.getLastTankInSlot1() == null || forceSend)
             {
@@ -296,7 +294,6 @@ public class GCPlayerHandler
                     GCPlayerHandler.sendGearUpdatePacket(player, EnumModelPacketType.ADD, EnumExtendedInventorySlot.LEFT_TANK, gearID);
                 }
                 stats.setAirRemaining(stats.getTankInSlot1().getMaxDamage() - stats.getTankInSlot1().getItemDamage());
-                GCPlayerHandler.sendAirRemainingPacket(player, stats);
             }
             //if the else is reached then both tankInSlot and lastTankInSlot are non-null
             else if (stats.getTankInSlot1().getItem() != stats.getLastTankInSlot1().getItem())
@@ -308,7 +305,6 @@ public class GCPlayerHandler
                     GCPlayerHandler.sendGearUpdatePacket(player, EnumModelPacketType.ADD, EnumExtendedInventorySlot.LEFT_TANK, gearID);
                 }
                 stats.setAirRemaining(stats.getTankInSlot1().getMaxDamage() - stats.getTankInSlot1().getItemDamage());
-                GCPlayerHandler.sendAirRemainingPacket(player, stats);
             }
 
             stats.setLastTankInSlot1(stats.getTankInSlot1());
@@ -322,7 +318,6 @@ public class GCPlayerHandler
             {
                 GCPlayerHandler.sendGearUpdatePacket(player, EnumModelPacketType.REMOVE, EnumExtendedInventorySlot.RIGHT_TANK);
                 stats.setAirRemaining2(0);
-                GCPlayerHandler.sendAirRemainingPacket(player, stats);
             }
             else if (stats.getLastTankInSlot2() == null || forceSend)
             {
@@ -333,7 +328,6 @@ public class GCPlayerHandler
                     GCPlayerHandler.sendGearUpdatePacket(player, EnumModelPacketType.ADD, EnumExtendedInventorySlot.RIGHT_TANK, gearID);
                 }
                 stats.setAirRemaining2(stats.getTankInSlot2().getMaxDamage() - stats.getTankInSlot2().getItemDamage());
-                GCPlayerHandler.sendAirRemainingPacket(player, stats);
             }
             //if the else is reached then both tankInSlot and lastTankInSlot are non-null
             else if (stats.getTankInSlot2().getItem() != stats.getLastTankInSlot2().getItem())
@@ -345,7 +339,6 @@ public class GCPlayerHandler
                     GCPlayerHandler.sendGearUpdatePacket(player, EnumModelPacketType.ADD, EnumExtendedInventorySlot.RIGHT_TANK, gearID);
                 }
                 stats.setAirRemaining2(stats.getTankInSlot2().getMaxDamage() - stats.getTankInSlot2().getItemDamage());
-                GCPlayerHandler.sendAirRemainingPacket(player, stats);
             }
 
             stats.setLastTankInSlot2(stats.getTankInSlot2());
@@ -605,13 +598,7 @@ public class GCPlayerHandler
 
                 if ((player.ticksExisted - 1) % thermalLevelTickCooldownSingle == 0)
                 {
-                    int last = playerStats.getThermalLevel();
                     playerStats.setThermalLevel((int) Math.min(Math.max(playerStats.getThermalLevel() + (thermalLevelMod < 0 ? -1 : 1), -22), 22));
-
-                    if (playerStats.getThermalLevel() != last)
-                    {
-                        this.sendThermalLevelPacket(player, playerStats);
-                    }
                 }
 
                 // If the normalisation is outpacing the freeze/overheat
@@ -659,8 +646,6 @@ public class GCPlayerHandler
 
     public void normaliseThermalLevel(EntityPlayerMP player, GCPlayerStats stats, int increment)
     {
-        final int last = stats.getThermalLevel();
-
         if (stats.getThermalLevel() < 0)
         {
             stats.setThermalLevel(stats.getThermalLevel() + Math.min(increment, -stats.getThermalLevel()));
@@ -669,11 +654,6 @@ public class GCPlayerHandler
         {
             stats.setThermalLevel(stats.getThermalLevel() - Math.min(increment, stats.getThermalLevel()));
         }
-
-        if (stats.getThermalLevel() != last)
-        {
-            this.sendThermalLevelPacket(player, stats);
-        }
     }
 
     protected void checkShield(EntityPlayerMP playerMP, GCPlayerStats playerStats)
@@ -841,64 +821,6 @@ public class GCPlayerHandler
         }
     }
 
-    protected void throwMeteors(EntityPlayerMP player)
-    {
-        World world = player.worldObj;
-        if (world.provider instanceof IGalacticraftWorldProvider && !world.isRemote)
-        {
-            if (((IGalacticraftWorldProvider) world.provider).getMeteorFrequency() > 0 && ConfigManagerCore.meteorSpawnMod > 0.0)
-            {
-                final int f = (int) (((IGalacticraftWorldProvider) world.provider).getMeteorFrequency() * 1000D * (1.0 / ConfigManagerCore.meteorSpawnMod));
-
-                if (world.rand.nextInt(f) == 0)
-                {
-                    final EntityPlayer closestPlayer = world.getClosestPlayerToEntity(player, 100);
-
-                    if (closestPlayer == null || closestPlayer.getEntityId() <= player.getEntityId())
-                    {
-                        int x, y, z;
-                        double motX, motZ;
-                        x = world.rand.nextInt(20) - 10;
-                        y = world.rand.nextInt(20) + 200;
-                        z = world.rand.nextInt(20) - 10;
-                        motX = world.rand.nextDouble() * 5;
-                        motZ = world.rand.nextDouble() * 5;
-
-                        final EntityMeteor meteor = new EntityMeteor(world, player.posX + x, player.posY + y, player.posZ + z, motX - 2.5D, 0, motZ - 2.5D, 1);
-
-                        if (!world.isRemote)
-                        {
-                            world.spawnEntityInWorld(meteor);
-                        }
-                    }
-                }
-
-                if (world.rand.nextInt(f * 3) == 0)
-                {
-                    final EntityPlayer closestPlayer = world.getClosestPlayerToEntity(player, 100);
-
-                    if (closestPlayer == null || closestPlayer.getEntityId() <= player.getEntityId())
-                    {
-                        int x, y, z;
-                        double motX, motZ;
-                        x = world.rand.nextInt(20) - 10;
-                        y = world.rand.nextInt(20) + 200;
-                        z = world.rand.nextInt(20) - 10;
-                        motX = world.rand.nextDouble() * 5;
-                        motZ = world.rand.nextDouble() * 5;
-
-                        final EntityMeteor meteor = new EntityMeteor(world, player.posX + x, player.posY + y, player.posZ + z, motX - 2.5D, 0, motZ - 2.5D, 6);
-
-                        if (!world.isRemote)
-                        {
-                            world.spawnEntityInWorld(meteor);
-                        }
-                    }
-                }
-            }
-        }
-    }
-
     protected void checkCurrentItem(EntityPlayerMP player)
     {
         ItemStack theCurrentItem = player.inventory.getCurrentItem();
@@ -1078,45 +1000,40 @@ public class GCPlayerHandler
 
     protected void sendPlanetList(EntityPlayerMP player, GCPlayerStats stats)
     {
-        HashMap<String, Integer> map;
-        if (player.ticksExisted % 50 == 0)
-        //Check for genuine update - e.g. maybe some other player created a space station or changed permissions
-        //CAUTION: possible server load due to dimension loading, if any planets or moons were (contrary to GC default) set to hotload
-        {
-            map = WorldUtil.getArrayOfPossibleDimensions(stats.getSpaceshipTier(), player);
-        }
-        else
-        {
-            map = WorldUtil.getArrayOfPossibleDimensionsAgain(stats.getSpaceshipTier(), player);
-        }
-
-        String temp = "";
-        int count = 0;
-
-        for (Entry<String, Integer> entry : map.entrySet())
-        {
-            temp = temp.concat(entry.getKey() + (count < map.entrySet().size() - 1 ? "?" : ""));
-            count++;
-        }
+        //Only worked out again if something happened which could change it - e.g. some other player created a space station or changed permissions
+        String temp = WorldUtil.getPossibleDestinations(stats.getSpaceshipTier(), player).list;
 
         if (!temp.equals(stats.getSavedPlanetList()) || (player.ticksExisted % 100 == 0))
         {
             GalacticraftCore.packetPipeline.sendTo(new PacketSimple(EnumSimplePacket.C_UPDATE_DIMENSION_LIST, GCCoreUtil.getDimensionID(player.worldObj), new Object[] { player.getGameProfile().getName(), temp }), player);
-            stats.setSavedPlanetList(temp);
             //GCLog.debug("Sending to " + player.getGameProfile().getName() + ": " + temp);
         }
+
+        //Keep the same String as the cache, so the next equals() is immediate
+        stats.setSavedPlanetList(temp);
     }
 
-    protected static void sendAirRemainingPacket(EntityPlayerMP player, GCPlayerStats stats)
+    /**
+     * Sends the player's client whichever of its HUD values (air remaining, thermal level,
+     * oxygen setup) changed this tick, in one packet, or nothing if none did.
+     */
+    protected void sendHudState(EntityPlayerMP player, GCPlayerStats stats, boolean isInGCDimension)
     {
         final float f1 = stats.getTankInSlot1() == null ? 0.0F : stats.getTankInSlot1().getMaxDamage() / 90.0F;
         final float f2 = stats.getTankInSlot2() == null ? 0.0F : stats.getTankInSlot2().getMaxDamage() / 90.0F;
-        GalacticraftCore.packetPipeline.sendTo(new PacketSimple(EnumSimplePacket.C_AIR_REMAINING, GCCoreUtil.getDimensionID(player.worldObj), new Object[] { MathHelper.floor_float(stats.getAirRemaining() / f1), MathHelper.floor_float(stats.getAirRemaining2() / f2), player.getGameProfile().getName() }), player);
-    }
+        PlayerHudState hudState = stats.getHudState();
+        hudState.setAirRemaining(MathHelper.floor_float(stats.getAirRemaining() / f1), MathHelper.floor_float(stats.getAirRemaining2() / f2));
+        hudState.setThermalLevel(stats.getThermalLevel(), stats.isThermalLevelNormalising());
+        if (isInGCDimension)
+        {
+            hudState.setOxygenSetupValid(stats.isOxygenSetupValid());
+        }
 
-    protected void sendThermalLevelPacket(EntityPlayerMP player, GCPlayerStats stats)
-    {
-        GalacticraftCore.packetPipeline.sendTo(new PacketSimple(EnumSimplePacket.C_UPDATE_THERMAL_LEVEL, GCCoreUtil.getDimensionID(player.worldObj), new Object[] { stats.getThermalLevel(), stats.isThermalLevelNormalising() }), player);
+        PacketPlayerHud packet = hudState.flush(GCCoreUtil.getDimensionID(player.worldObj));
+        if (packet != null)
+        {
+            GalacticraftCore.packetPipeline.sendTo(packet, player);
+        }
     }
 
     public static void sendGearUpdatePacket(EntityPlayerMP player, EnumModelPacketType packetType, EnumExtendedInventorySlot gearType)
@@ -1286,12 +1203,6 @@ public class GCPlayerHandler
 
         if (isInGCDimension)
         {
-            if (tick % 30 == 0)
-            {
-                GCPlayerHandler.sendAirRemainingPacket(player, stats);
-                this.sendThermalLevelPacket(player, stats);
-            }
-
             if (player.ridingEntity instanceof EntityLanderBase)
             {
                 stats.setInLander(true);
@@ -1383,13 +1294,6 @@ public class GCPlayerHandler
         this.checkOxygen(player, stats);
         this.checkShield(player, stats);
 
-        if (isInGCDimension && (stats.isOxygenSetupValid() != stats.isLastOxygenSetupValid() || tick % 100 == 0))
-        {
-            GalacticraftCore.packetPipeline.sendTo(new PacketSimple(EnumSimplePacket.C_UPDATE_OXYGEN_VALIDITY, GCCoreUtil.getDimensionID(player.worldObj), new Object[] { stats.isOxygenSetupValid() }), player);
-        }
-
-        this.throwMeteors(player);
-
         this.updateSchematics(player, stats);
 
         if (tick % 250 == 0 && stats.getFrequencyModuleInSlot() == null && !stats.hasReceivedSoundWarning() && isInGCDimension && player.onGround && tick > 0 && ((IGalacticraftWorldProvider) player.worldObj.provider).getSoundVolReductionAmount() > 1.0F)
@@ -1404,6 +1308,8 @@ public class GCPlayerHandler
             stats.setReceivedSoundWarning(true);
         }
 
+        this.sendHudState(player, stats, isInGCDimension);
+
         stats.setLastOxygenSetupValid(stats.isOxygenSetupValid());
         stats.setLastUnlockedSchematics(stats.getUnlockedSchematics());
         stats.setLastOnGround(player.onGround);
@@ -190,6 +190,8 @@ public abstract class GCPlayerStats
 
     public abstract void setSavedPlanetList(String savedPlanetList);
 
+    public abstract PlayerHudState getHudState();
+
     public abstract int getOpenPlanetSelectionGuiCooldown();
 
     public abstract void setOpenPlanetSelectionGuiCooldown(int openPlanetSelectionGuiCooldown);
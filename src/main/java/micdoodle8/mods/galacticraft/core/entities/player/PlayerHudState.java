@@ -0,0 +1,83 @@
+package micdoodle8.mods.galacticraft.core.entities.player;
+
+import micdoodle8.mods.galacticraft.core.network.PacketPlayerHud;
+
+/**
+ * The HUD state last sent to one player's client, with a mask of the fields changed since.
+ * Changes are flushed once per tick as a single {@link PacketPlayerHud} holding only the changed
+ * fields, and nothing is sent if nothing changed.
+ *
+ * Everything is sent again when the player changes dimension, because the client makes a new
+ * player (and new client stats) then.
+ */
+public class PlayerHudState
+{
+    private int dimension = Integer.MIN_VALUE;
+    private int dirty = PacketPlayerHud.ALL;
+
+    private int airRemaining;
+    private int airRemaining2;
+    private int thermalLevel;
+    private boolean thermalLevelNormalising;
+    private boolean oxygenSetupValid;
+
+    public void setAirRemaining(int airRemaining, int airRemaining2)
+    {
+        if (airRemaining != this.airRemaining || airRemaining2 != this.airRemaining2)
+        {
+            this.airRemaining = airRemaining;
+            this.airRemaining2 = airRemaining2;
+            this.dirty |= PacketPlayerHud.AIR_REMAINING;
+        }
+    }
+
+    public void setThermalLevel(int thermalLevel, boolean thermalLevelNormalising)
+    {
+        if (thermalLevel != this.thermalLevel)
+        {
+            this.thermalLevel = thermalLevel;
+            this.dirty |= PacketPlayerHud.THERMAL_LEVEL;
+        }
+
+        if (thermalLevelNormalising != this.thermalLevelNormalising)
+        {
+            this.thermalLevelNormalising = thermalLevelNormalising;
+            this.dirty |= PacketPlayerHud.THERMAL_NORMALISING;
+        }
+    }
+
+    public void setOxygenSetupValid(boolean oxygenSetupValid)
+    {
+        if (oxygenSetupValid != this.oxygenSetupValid)
+        {
+            this.oxygenSetupValid = oxygenSetupValid;
+            this.dirty |= PacketPlayerHud.OXYGEN_SETUP_VALID;
+        }
+    }
+
+    public void markAllDirty()
+    {
+        this.dirty = PacketPlayerHud.ALL;
+    }
+
+    /**
+     * @return A packet with the fields changed since the last flush, or null if none changed
+     */
+    public PacketPlayerHud flush(int dimension)
+    {
+        if (dimension != this.dimension)
+        {
+            this.dimension = dimension;
+            this.dirty = PacketPlayerHud.ALL;
+        }
+
+        if (this.dirty == 0)
+        {
+            return null;
+        }
+
+        PacketPlayerHud packet = new PacketPlayerHud(dimension, this.dirty, this.airRemaining, this.airRemaining2, this.thermalLevel, this.thermalLevelNormalising, this.oxygenSetupValid);
+        this.dirty = 0;
+        return packet;
+    }
+}
@@ -86,6 +86,7 @@ public class StatsCapability extends GCPlayerStats
 
     public boolean usingPlanetSelectionGui;
     public String savedPlanetList = "";
+    public PlayerHudState hudState = new PlayerHudState();
     public int openPlanetSelectionGuiCooldown;
     public boolean hasOpenedPlanetSelectionGui = false;
 
@@ -624,6 +625,12 @@ public class StatsCapability extends GCPlayerStats
         this.savedPlanetList = savedPlanetList;
     }
 
+    @Override
+    public PlayerHudState getHudState()
+    {
+        return hudState;
+    }
+
     @Override
     public int getOpenPlanetSelectionGuiCooldown()
     {
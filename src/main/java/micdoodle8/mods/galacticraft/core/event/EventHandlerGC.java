@@ -30,6 +30,7 @@ import micdoodle8.mods.galacticraft.core.proxy.ClientProxyCore;
 import micdoodle8.mods.galacticraft.core.tick.TickHandlerServer;
 import micdoodle8.mods.galacticraft.core.util.*;
 import micdoodle8.mods.galacticraft.core.world.ChunkLoadingCallback;
+import micdoodle8.mods.galacticraft.core.world.OilRetrogenTracker;
 import micdoodle8.mods.galacticraft.core.wrappers.PlayerGearData;
 import micdoodle8.mods.galacticraft.planets.asteroids.AsteroidsModule;
 import net.minecraft.block.Block;
@@ -124,6 +125,12 @@ public class EventHandlerGC
     public void onWorldSave(Save event)
     {
         ChunkLoadingCallback.save((WorldServer) event.world);
+
+        if (!event.world.isRemote && GCCoreUtil.getDimensionID(event.world) == 0)
+        {
+            AsyncSaveWriter.saveWorldData(event.world);
+            OilRetrogenTracker.save();
+        }
     }
 
     @SubscribeEvent
@@ -296,11 +303,13 @@ public class EventHandlerGC
         final EntityLivingBase entityLiving = event.entityLiving;
         if (entityLiving instanceof EntityPlayerMP)
         {
+            long profileStart = GCProfiler.start();
             GalacticraftCore.handler.onPlayerUpdate((EntityPlayerMP) entityLiving);
             if (GalacticraftCore.isPlanetsLoaded)
             {
                 AsteroidsModule.playerHandler.onPlayerUpdate((EntityPlayerMP) entityLiving);
             }
+            GCProfiler.end(GCProfiler.Section.PLAYER_UPDATE, entityLiving.dimension, profileStart, entityLiving.getName());
             return;
         }
 
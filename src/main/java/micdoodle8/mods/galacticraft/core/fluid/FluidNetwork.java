@@ -14,20 +14,23 @@ import micdoodle8.mods.galacticraft.api.transmission.tile.INetworkProvider;
 import micdoodle8.mods.galacticraft.api.transmission.tile.ITransmitter;
 import micdoodle8.mods.galacticraft.api.vector.BlockVec3;
 import micdoodle8.mods.galacticraft.core.GalacticraftCore;
-import micdoodle8.mods.galacticraft.core.network.IPacket;
 import micdoodle8.mods.galacticraft.core.network.PacketFluidNetworkUpdate;
 import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
+import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.management.PlayerManager;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.BlockPos;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.ChunkCoordIntPair;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.IFluidHandler;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.FMLLog;
-import net.minecraftforge.fml.common.network.NetworkRegistry;
 import net.minecraftforge.fml.relauncher.Side;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -48,7 +51,6 @@ public class FluidNetwork implements IGridNetwork<FluidNetwork, IBufferTransmitt
     public FluidStack buffer;
     private int capacity;
     private World worldObj;
-    private int prevBufferAmount;
     private boolean needsUpdate;
     public float fluidScale;
     public Fluid refFluid;
@@ -58,6 +60,15 @@ public class FluidNetwork implements IGridNetwork<FluidNetwork, IBufferTransmitt
     private int prevTransferAmount;
     private int updateDelay;
     private boolean firstUpdate = true;
+    private Map<Long, BlockPos> chunkAnchors;
+    private int snapshotDelay;
+    private int lastSentLevel = -1;
+    private Fluid lastSentFluid;
+    private boolean lastSentTransfer;
+
+    //Fluid updates are sent at most this often (in ticks), and only if the pipes would look different
+    private static final int SNAPSHOT_INTERVAL = 10;
+    private static final int SNAPSHOT_LEVELS = 64;
 
     public FluidNetwork()
     {
@@ -143,6 +154,25 @@ public class FluidNetwork implements IGridNetwork<FluidNetwork, IBufferTransmitt
         this.updateDelay = this.firstUpdate ? 20 : 1;
     }
 
+    /**
+     * Add many transmitters at once, with only one refresh of the network at the end
+     */
+    public void addTransmitters(Collection<IBufferTransmitter<FluidStack>> transmitters)
+    {
+        for (IBufferTransmitter<FluidStack> transmitter : transmitters)
+        {
+            if (this.pipes.add(transmitter))
+            {
+                transmitter.setNetwork(this);
+                this.pipesAdded.add(transmitter);
+                this.onTransmitterAdded(transmitter);
+            }
+        }
+
+        this.refresh();
+        this.updateDelay = this.firstUpdate ? 20 : 1;
+    }
+
     public void removeTransmitter(IBufferTransmitter<FluidStack> transmitter)
     {
         this.pipes.remove(transmitter);
@@ -187,6 +217,7 @@ public class FluidNetwork implements IGridNetwork<FluidNetwork, IBufferTransmitt
     public void updateCapacity()
     {
         this.capacity = 0;
+        this.chunkAnchors = null;
 
         for (IBufferTransmitter<FluidStack> transmitter : this.pipes)
         {
@@ -297,10 +328,85 @@ public class FluidNetwork implements IGridNetwork<FluidNetwork, IBufferTransmitt
         this.updateQueue.add(new DelayQueue(player));
     }
 
-    private IPacket getAddTransmitterUpdate()
+    /**
+     * One pipe position in each chunk the network passes through, so that each player can be sent
+     * an update anchored on a pipe which is loaded on their client
+     */
+    private Map<Long, BlockPos> getChunkAnchors()
     {
-        BlockPos pos = ((TileEntity) this.pipes.iterator().next()).getPos();
-        return PacketFluidNetworkUpdate.getAddTransmitterUpdate(GCCoreUtil.getDimensionID(this.worldObj), pos, this.firstUpdate, this.pipesAdded);
+        if (this.chunkAnchors == null)
+        {
+            this.chunkAnchors = Maps.newHashMap();
+
+            for (IBufferTransmitter<FluidStack> transmitter : this.pipes)
+            {
+                BlockPos pos = ((TileEntity) transmitter).getPos();
+                long chunkKey = ChunkCoordIntPair.chunkXZ2Int(pos.getX() >> 4, pos.getZ() >> 4);
+
+                if (!this.chunkAnchors.containsKey(chunkKey))
+                {
+                    this.chunkAnchors.put(chunkKey, pos);
+                }
+            }
+        }
+
+        return this.chunkAnchors;
+    }
+
+    /**
+     * @return The players watching any chunk of this network, each with a pipe position in a chunk they can see
+     */
+    private Map<EntityPlayerMP, BlockPos> getWatchingPlayers()
+    {
+        Map<EntityPlayerMP, BlockPos> watching = Maps.newHashMap();
+
+        if (!(this.worldObj instanceof WorldServer))
+        {
+            return watching;
+        }
+
+        PlayerManager playerManager = ((WorldServer) this.worldObj).getPlayerManager();
+        Collection<BlockPos> anchors = this.getChunkAnchors().values();
+
+        for (EntityPlayer player : this.worldObj.playerEntities)
+        {
+            if (player instanceof EntityPlayerMP)
+            {
+                for (BlockPos anchor : anchors)
+                {
+                    if (playerManager.isPlayerWatchingChunk((EntityPlayerMP) player, anchor.getX() >> 4, anchor.getZ() >> 4))
+                    {
+                        watching.put((EntityPlayerMP) player, anchor);
+                        break;
+                    }
+                }
+            }
+        }
+
+        return watching;
+    }
+
+    private BlockPos getAnchorFor(EntityPlayerMP player)
+    {
+        if (this.worldObj instanceof WorldServer)
+        {
+            PlayerManager playerManager = ((WorldServer) this.worldObj).getPlayerManager();
+
+            for (BlockPos anchor : this.getChunkAnchors().values())
+            {
+                if (playerManager.isPlayerWatchingChunk(player, anchor.getX() >> 4, anchor.getZ() >> 4))
+                {
+                    return anchor;
+                }
+            }
+        }
+
+        return ((TileEntity) this.pipes.iterator().next()).getPos();
+    }
+
+    private int getSnapshotLevel()
+    {
+        return MathHelper.ceiling_float_int(this.getScale() * SNAPSHOT_LEVELS);
     }
 
     public void onUpdate()
@@ -308,9 +414,13 @@ public class FluidNetwork implements IGridNetwork<FluidNetwork, IBufferTransmitt
         if (FMLCommonHandler.instance().getEffectiveSide().isServer())
         {
             Iterator<DelayQueue> iterator = this.updateQueue.iterator();
+            int dimID = GCCoreUtil.getDimensionID(this.worldObj);
 
             try
             {
+                //The full pipe list is built once and shared by all players whose request is due this tick
+                List<IBufferTransmitter<FluidStack>> allPipes = null;
+
                 while (iterator.hasNext())
                 {
                     DelayQueue queue = iterator.next();
@@ -321,9 +431,11 @@ public class FluidNetwork implements IGridNetwork<FluidNetwork, IBufferTransmitt
                     }
                     else
                     {
-                        this.pipesAdded.addAll(this.pipes);
-                        GalacticraftCore.packetPipeline.sendTo(this.getAddTransmitterUpdate(), queue.player);
-                        this.pipesAdded.clear();
+                        if (allPipes == null)
+                        {
+                            allPipes = new ArrayList<>(this.pipes);
+                        }
+                        GalacticraftCore.packetPipeline.sendTo(PacketFluidNetworkUpdate.getAddTransmitterUpdate(dimID, this.getAnchorFor(queue.player), this.firstUpdate, allPipes), queue.player);
                         iterator.remove();
                     }
                 }
@@ -339,8 +451,13 @@ public class FluidNetwork implements IGridNetwork<FluidNetwork, IBufferTransmitt
 
                 if (this.updateDelay == 0)
                 {
-                    BlockPos pos = ((TileEntity) this.pipes.iterator().next()).getPos();
-                    GalacticraftCore.packetPipeline.sendToAllAround(this.getAddTransmitterUpdate(), new NetworkRegistry.TargetPoint(GCCoreUtil.getDimensionID(this.worldObj), pos.getX(), pos.getY(), pos.getZ(), 30.0));
+                    List<IBufferTransmitter<FluidStack>> added = new ArrayList<>(this.pipesAdded);
+
+                    for (Map.Entry<EntityPlayerMP, BlockPos> entry : this.getWatchingPlayers().entrySet())
+                    {
+                        GalacticraftCore.packetPipeline.sendTo(PacketFluidNetworkUpdate.getAddTransmitterUpdate(dimID, entry.getValue(), this.firstUpdate, added), entry.getKey());
+                    }
+
                     this.firstUpdate = false;
                     this.pipesAdded.clear();
                     this.needsUpdate = true;
@@ -358,20 +475,30 @@ public class FluidNetwork implements IGridNetwork<FluidNetwork, IBufferTransmitt
                 this.transferDelay--;
             }
 
-            int stored = buffer != null ? buffer.amount : 0;
-
-            if (stored != this.prevBufferAmount)
+            if (this.snapshotDelay > 0)
             {
-                this.needsUpdate = true;
+                this.snapshotDelay--;
             }
 
-            this.prevBufferAmount = stored;
-
-            if (this.didTransfer != this.prevTransfer || this.needsUpdate)
+            if (this.snapshotDelay == 0)
             {
-                BlockPos pos = ((TileEntity) this.pipes.iterator().next()).getPos();
-                GalacticraftCore.packetPipeline.sendToAllAround(PacketFluidNetworkUpdate.getFluidUpdate(GCCoreUtil.getDimensionID(this.worldObj), pos, this.buffer, this.didTransfer), new NetworkRegistry.TargetPoint(GCCoreUtil.getDimensionID(this.worldObj), pos.getX(), pos.getY(), pos.getZ(), 20.0));
-                this.needsUpdate = false;
+                //Only send a fluid update if clients would render the pipes differently
+                int level = this.getSnapshotLevel();
+                Fluid fluid = this.buffer != null ? this.buffer.getFluid() : null;
+
+                if (this.needsUpdate || level != this.lastSentLevel || fluid != this.lastSentFluid || this.didTransfer != this.lastSentTransfer)
+                {
+                    for (Map.Entry<EntityPlayerMP, BlockPos> entry : this.getWatchingPlayers().entrySet())
+                    {
+                        GalacticraftCore.packetPipeline.sendTo(PacketFluidNetworkUpdate.getFluidUpdate(dimID, entry.getValue(), this.buffer, this.didTransfer), entry.getKey());
+                    }
+
+                    this.lastSentLevel = level;
+                    this.lastSentFluid = fluid;
+                    this.lastSentTransfer = this.didTransfer;
+                    this.snapshotDelay = SNAPSHOT_INTERVAL;
+                    this.needsUpdate = false;
+                }
             }
 
             this.prevTransfer = this.didTransfer;
@@ -16,6 +16,7 @@ import net.minecraft.network.EnumConnectionState;
 import net.minecraft.network.EnumPacketDirection;
 import net.minecraft.network.Packet;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerChangedDimensionEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerLoggedInEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerLoggedOutEvent;
 import net.minecraftforge.fml.common.network.FMLNetworkEvent.ClientConnectedToServerEvent;
@@ -60,6 +61,7 @@ public class ConnectionEvents
     public void onPlayerLogout(PlayerLoggedOutEvent event)
     {
         ChunkLoadingCallback.onPlayerLogout(event.player);
+        SpaceRaceManager.onPlayerLogout(event.player);
     }
 
     @SubscribeEvent
@@ -73,6 +75,7 @@ public class ConnectionEvents
             GCPlayerStats stats = GCPlayerStats.get(thePlayer);
             SpaceStationWorldData.checkAllStations(thePlayer, stats);
             GalacticraftCore.packetPipeline.sendTo(new PacketSimple(EnumSimplePacket.C_UPDATE_SPACESTATION_CLIENT_ID, GCCoreUtil.getDimensionID(thePlayer.worldObj), new Object[] { WorldUtil.spaceStationDataToString(stats.getSpaceStationDimensionData()) }), thePlayer);
+            SpaceRaceManager.onPlayerLogin(thePlayer);
             SpaceRace raceForPlayer = SpaceRaceManager.getSpaceRaceFromPlayer(thePlayer.getGameProfile().getName());
             if (raceForPlayer != null)
             {
@@ -86,6 +89,15 @@ public class ConnectionEvents
         }
     }
 
+    @SubscribeEvent
+    public void onPlayerChangedDimension(PlayerChangedDimensionEvent event)
+    {
+        if (event.player instanceof EntityPlayerMP)
+        {
+            SpaceRaceManager.onPlayerChangedDimension(event.player);
+        }
+    }
+
     @SubscribeEvent
     public void onConnectionReceived(ServerConnectionFromClientEvent event)
     {
@@ -0,0 +1,46 @@
+package micdoodle8.mods.galacticraft.core.network;
+
+import net.minecraft.entity.Entity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the entity sync packets sent by the server, and their size in bytes, for each type of entity.
+ * One packet is counted for each player it is sent to.
+ */
+public class EntitySyncStats
+{
+    private static final Map<Class<? extends Entity>, long[]> stats = new HashMap<Class<? extends Entity>, long[]>();
+
+    public static void record(Class<? extends Entity> entityClass, int packets, long bytes)
+    {
+        long[] counts = EntitySyncStats.stats.get(entityClass);
+
+        if (counts == null)
+        {
+            counts = new long[2];
+            EntitySyncStats.stats.put(entityClass, counts);
+        }
+
+        counts[0] += packets;
+        counts[1] += bytes;
+    }
+
+    public static long getPackets(Class<? extends Entity> entityClass)
+    {
+        long[] counts = EntitySyncStats.stats.get(entityClass);
+        return counts == null ? 0L : counts[0];
+    }
+
+    public static long getBytes(Class<? extends Entity> entityClass)
+    {
+        long[] counts = EntitySyncStats.stats.get(entityClass);
+        return counts == null ? 0L : counts[1];
+    }
+
+    public static void reset()
+    {
+        EntitySyncStats.stats.clear();
+    }
+}
@@ -4,7 +4,10 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import micdoodle8.mods.galacticraft.core.Constants;
 import micdoodle8.mods.galacticraft.core.util.GCLog;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.network.FMLEmbeddedChannel;
 import net.minecraftforge.fml.common.network.FMLIndexedMessageToMessageCodec;
@@ -17,6 +20,8 @@ import java.util.EnumMap;
 public class GalacticraftChannelHandler extends FMLIndexedMessageToMessageCodec<IPacket>
 {
     private EnumMap<Side, FMLEmbeddedChannel> channels;
+    //Size of the last message encoded (the channels encode synchronously, on the sending thread)
+    private int lastEncodedBytes;
 
     private GalacticraftChannelHandler()
     {
@@ -26,6 +31,7 @@ public class GalacticraftChannelHandler extends FMLIndexedMessageToMessageCodec<
         this.addDiscriminator(3, PacketFluidNetworkUpdate.class);
         this.addDiscriminator(4, PacketEntityUpdate.class);
         this.addDiscriminator(5, PacketDynamicInventory.class);
+        this.addDiscriminator(6, PacketPlayerHud.class);
     }
 
     public static GalacticraftChannelHandler init()
@@ -38,7 +44,9 @@ public class GalacticraftChannelHandler extends FMLIndexedMessageToMessageCodec<
     @Override
     public void encodeInto(ChannelHandlerContext ctx, IPacket msg, ByteBuf target) throws Exception
     {
+        int start = target.writerIndex();
         msg.encodeInto(target);
+        this.lastEncodedBytes = target.writerIndex() - start;
     }
 
     @Override
@@ -127,6 +135,64 @@ public class GalacticraftChannelHandler extends FMLIndexedMessageToMessageCodec<
         }
     }
 
+    /**
+     * Send this entity update to the players who are tracking the entity (the players whose
+     * clients have it loaded), and to its rider.  Counted in {@link EntitySyncStats}.
+     *
+     * @param message The message to send
+     * @param entity  The entity the message is about
+     */
+    public void sendToTracking(IPacket message, Entity entity)
+    {
+        if (!(entity.worldObj instanceof WorldServer))
+        {
+            return;
+        }
+
+        int packets = 0;
+        long bytes = 0L;
+
+        for (EntityPlayer player : ((WorldServer) entity.worldObj).getEntityTracker().getTrackingPlayers(entity))
+        {
+            if (player instanceof EntityPlayerMP && player != entity.riddenByEntity)
+            {
+                this.sendTo(message, (EntityPlayerMP) player);
+                packets++;
+                bytes += this.lastEncodedBytes;
+            }
+        }
+
+        if (entity.riddenByEntity instanceof EntityPlayerMP)
+        {
+            this.sendTo(message, (EntityPlayerMP) entity.riddenByEntity);
+            packets++;
+            bytes += this.lastEncodedBytes;
+        }
+
+        EntitySyncStats.record(entity.getClass(), packets, bytes);
+    }
+
+    /**
+     * Send this entity update to everyone in the entity's dimension, whether or not they are
+     * tracking it.  Only for the few updates which are needed everywhere in the dimension:
+     * normally use {@link #sendToTracking(IPacket, Entity)}.  Counted in {@link EntitySyncStats}.
+     *
+     * @param message The message to send
+     * @param entity  The entity the message is about
+     */
+    public void sendToDimension(IPacket message, Entity entity)
+    {
+        int players = entity.worldObj.playerEntities.size();
+
+        if (players == 0)
+        {
+            return;
+        }
+
+        this.sendToDimension(message, entity.worldObj.provider.getDimensionId());
+        EntitySyncStats.record(entity.getClass(), players, (long) players * this.lastEncodedBytes);
+    }
+
     /**
      * Send this message to the server.
      * <p/>
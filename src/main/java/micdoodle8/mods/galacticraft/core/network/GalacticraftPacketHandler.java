@@ -2,7 +2,6 @@ package micdoodle8.mods.galacticraft.core.network;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Queues;
 import io.netty.channel.ChannelHandler.Sharable;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
@@ -10,6 +9,7 @@ import micdoodle8.mods.galacticraft.core.GalacticraftCore;
 import micdoodle8.mods.galacticraft.core.tick.TickHandlerClient;
 import micdoodle8.mods.galacticraft.core.tick.TickHandlerServer;
 import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
+import micdoodle8.mods.galacticraft.core.util.GCLog;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.network.INetHandler;
 import net.minecraft.world.World;
@@ -18,21 +18,24 @@ import net.minecraftforge.fml.common.network.NetworkRegistry;
 import net.minecraftforge.fml.relauncher.Side;
 
 import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Sharable
 public class GalacticraftPacketHandler extends SimpleChannelInboundHandler<IPacket>
 {
-    private final Map<Side, Map<Integer, Queue<PacketPlayerPair>>> packetMap;
-    private static volatile int livePacketCount = 0;
+    //Most packets waiting in each dimension's queue: more are dropped
+    public static final int MAX_QUEUED_PACKETS = 4096;
+    //Most packets handled per dimension per tick: the rest wait for the next tick
+    public static final int PACKETS_PER_TICK = 1024;
+
+    private final Map<Side, Map<Integer, InboundPacketQueue<EntityPlayer>>> packetMap;
 
     public GalacticraftPacketHandler()
     {
-        Map<Side, Map<Integer, Queue<PacketPlayerPair>>> map = Maps.newHashMap();
+        Map<Side, Map<Integer, InboundPacketQueue<EntityPlayer>>> map = Maps.newHashMap();
         for (Side side : Side.values())
         {
-            Map<Integer, Queue<PacketPlayerPair>> sideMap = new ConcurrentHashMap<Integer, Queue<PacketPlayerPair>>();
+            Map<Integer, InboundPacketQueue<EntityPlayer>> sideMap = new ConcurrentHashMap<Integer, InboundPacketQueue<EntityPlayer>>();
             map.put(side, sideMap);
         }
 
@@ -48,25 +51,26 @@ public class GalacticraftPacketHandler extends SimpleChannelInboundHandler<IPack
     {
         Side side = world.isRemote ? Side.CLIENT : Side.SERVER;
         int dimId = GCCoreUtil.getDimensionID(world);
-        Queue<PacketPlayerPair> queue = getQueue(side, dimId);
+        InboundPacketQueue<EntityPlayer> queue = getQueue(side, dimId);
         queue.clear();
     }
 
     public void tick(World world)
     {
-        PacketPlayerPair pair;
+        InboundPacketQueue.Entry<EntityPlayer> pair;
         Side side = world.isRemote ? Side.CLIENT : Side.SERVER;
         int dimID = GCCoreUtil.getDimensionID(world);
-        Queue<PacketPlayerPair> queue = getQueue(side, dimID);
-        while ((pair = queue.poll()) != null)
+        InboundPacketQueue<EntityPlayer> queue = getQueue(side, dimID);
+        int budget = GalacticraftPacketHandler.PACKETS_PER_TICK;
+        while (budget-- > 0 && (pair = queue.poll()) != null)
         {
             switch (side)
             {
             case CLIENT:
-                pair.getPacket().handleClientSide(pair.getPlayer());
+                pair.getPacket().handleClientSide(pair.getSender());
                 break;
             case SERVER:
-                pair.getPacket().handleServerSide(pair.getPlayer());
+                pair.getPacket().handleServerSide(pair.getSender());
                 break;
             }
         }
@@ -86,50 +90,29 @@ public class GalacticraftPacketHandler extends SimpleChannelInboundHandler<IPack
 
         if (side != null)
         {
-            getQueue(side, msg.getDimensionID()).add(new PacketPlayerPair(msg, player));
-            livePacketCount++;
+            InboundPacketQueue<EntityPlayer> queue = getQueue(side, msg.getDimensionID());
+            if (!queue.add(msg, player) && queue.getDropped() == 1L)
+            {
+                GCLog.info("Galacticraft packet queue for dimension " + msg.getDimensionID() + " is full, dropping packets (see /gcpackets)");
+            }
         }
     }
 
-    private Queue<PacketPlayerPair> getQueue(Side side, int dimID)
+    /**
+     * The queues of received packets for each dimension, with their counters.
+     */
+    public Map<Integer, InboundPacketQueue<EntityPlayer>> getQueues(Side side)
     {
-        Map<Integer, Queue<PacketPlayerPair>> map = packetMap.get(side);
-        if (!map.containsKey(dimID))
-        {
-            map.put(dimID, Queues.<PacketPlayerPair>newConcurrentLinkedQueue());
-        }
-        return map.get(dimID);
+        return packetMap.get(side);
     }
 
-    private final class PacketPlayerPair
+    private InboundPacketQueue<EntityPlayer> getQueue(Side side, int dimID)
     {
-        private IPacket packet;
-        private EntityPlayer player;
-
-        public PacketPlayerPair(IPacket packet, EntityPlayer player)
-        {
-            this.packet = packet;
-            this.player = player;
-        }
-
-        public IPacket getPacket()
-        {
-            return packet;
-        }
-
-        public void setPacket(IPacket packet)
-        {
-            this.packet = packet;
-        }
-
-        public EntityPlayer getPlayer()
-        {
-            return player;
-        }
-
-        public void setPlayer(EntityPlayer player)
+        Map<Integer, InboundPacketQueue<EntityPlayer>> map = packetMap.get(side);
+        if (!map.containsKey(dimID))
         {
-            this.player = player;
+            map.put(dimID, new InboundPacketQueue<EntityPlayer>(GalacticraftPacketHandler.MAX_QUEUED_PACKETS));
         }
+        return map.get(dimID);
     }
 }
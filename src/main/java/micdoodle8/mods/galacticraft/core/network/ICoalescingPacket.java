@@ -0,0 +1,15 @@
+package micdoodle8.mods.galacticraft.core.network;
+
+/**
+ * A packet which may carry state that a later packet of the same kind, from the same sender,
+ * entirely replaces (for example a rocket's current yaw).  While such a packet is still
+ * waiting to be handled, a newer one replaces it in the queue instead of queueing behind it.
+ */
+public interface ICoalescingPacket
+{
+    /**
+     * @return A key (with equals() and hashCode()) for packets which replace each other,
+     * or null if this packet must always be handled
+     */
+    Object getCoalesceKey();
+}
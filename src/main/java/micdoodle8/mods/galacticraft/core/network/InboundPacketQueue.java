@@ -0,0 +1,187 @@
+package micdoodle8.mods.galacticraft.core.network;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The packets received for one dimension, waiting to be handled on the main thread.
+ *
+ * Packets are added from the network thread and taken from the main thread, so all methods are
+ * synchronized.  The queue holds at most a fixed number of packets: packets arriving while it is
+ * full are dropped.  An {@link ICoalescingPacket} replaces a queued packet from the same sender
+ * with the same key, keeping its place in the queue.
+ *
+ * @param <S> The sender of the packets (a player)
+ */
+public class InboundPacketQueue<S>
+{
+    private final int capacity;
+    private final ArrayDeque<Entry<S>> queue = new ArrayDeque<Entry<S>>();
+    private final Map<Key, Entry<S>> coalescing = new HashMap<Key, Entry<S>>();
+
+    private long received;
+    private long handled;
+    private long coalesced;
+    private long dropped;
+    private int maxDepth;
+
+    public static final class Entry<S>
+    {
+        private IPacket packet;
+        private final S sender;
+        private Key key;
+
+        private Entry(IPacket packet, S sender)
+        {
+            this.packet = packet;
+            this.sender = sender;
+        }
+
+        public IPacket getPacket()
+        {
+            return this.packet;
+        }
+
+        public S getSender()
+        {
+            return this.sender;
+        }
+    }
+
+    private static final class Key
+    {
+        private final Object sender;
+        private final Class<?> type;
+        private final Object key;
+
+        private Key(Object sender, Class<?> type, Object key)
+        {
+            this.sender = sender;
+            this.type = type;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof Key))
+            {
+                return false;
+            }
+            Key other = (Key) o;
+            return this.sender == other.sender && this.type == other.type && this.key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (System.identityHashCode(this.sender) * 31 + this.type.hashCode()) * 31 + this.key.hashCode();
+        }
+    }
+
+    public InboundPacketQueue(int capacity)
+    {
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return False if the queue was full and the packet was dropped
+     */
+    public synchronized boolean add(IPacket packet, S sender)
+    {
+        this.received++;
+        Key key = null;
+
+        if (packet instanceof ICoalescingPacket)
+        {
+            Object coalesceKey = ((ICoalescingPacket) packet).getCoalesceKey();
+
+            if (coalesceKey != null)
+            {
+                key = new Key(sender, packet.getClass(), coalesceKey);
+                Entry<S> queued = this.coalescing.get(key);
+
+                if (queued != null)
+                {
+                    queued.packet = packet;
+                    this.coalesced++;
+                    return true;
+                }
+            }
+        }
+
+        if (this.queue.size() >= this.capacity)
+        {
+            this.dropped++;
+            return false;
+        }
+
+        Entry<S> entry = new Entry<S>(packet, sender);
+
+        if (key != null)
+        {
+            entry.key = key;
+            this.coalescing.put(key, entry);
+        }
+
+        this.queue.add(entry);
+        this.maxDepth = Math.max(this.maxDepth, this.queue.size());
+        return true;
+    }
+
+    /**
+     * @return The oldest packet, or null if the queue is empty
+     */
+    public synchronized Entry<S> poll()
+    {
+        Entry<S> entry = this.queue.poll();
+
+        if (entry != null)
+        {
+            if (entry.key != null)
+            {
+                this.coalescing.remove(entry.key);
+            }
+            this.handled++;
+        }
+
+        return entry;
+    }
+
+    public synchronized void clear()
+    {
+        this.queue.clear();
+        this.coalescing.clear();
+    }
+
+    public synchronized int getDepth()
+    {
+        return this.queue.size();
+    }
+
+    public synchronized int getMaxDepth()
+    {
+        return this.maxDepth;
+    }
+
+    public synchronized long getReceived()
+    {
+        return this.received;
+    }
+
+    public synchronized long getHandled()
+    {
+        return this.handled;
+    }
+
+    public synchronized long getCoalesced()
+    {
+        return this.coalesced;
+    }
+
+    public synchronized long getDropped()
+    {
+        return this.dropped;
+    }
+}
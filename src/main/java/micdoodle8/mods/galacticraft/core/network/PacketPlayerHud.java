@@ -0,0 +1,138 @@
+package micdoodle8.mods.galacticraft.core.network;
+
+import io.netty.buffer.ByteBuf;
+import micdoodle8.mods.galacticraft.core.entities.player.GCPlayerStatsClient;
+import micdoodle8.mods.galacticraft.core.tick.TickHandlerClient;
+import net.minecraft.client.entity.EntityPlayerSP;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * The changes to a player's HUD state (air remaining, thermal level, oxygen setup) since the
+ * last one sent, see {@link micdoodle8.mods.galacticraft.core.entities.player.PlayerHudState}.
+ *
+ * The first byte says which fields follow.  The two booleans are carried in that byte too.
+ */
+public class PacketPlayerHud extends PacketBase
+{
+    public static final int AIR_REMAINING = 1;
+    public static final int THERMAL_LEVEL = 2;
+    public static final int THERMAL_NORMALISING = 4;
+    public static final int OXYGEN_SETUP_VALID = 8;
+    public static final int ALL = AIR_REMAINING | THERMAL_LEVEL | THERMAL_NORMALISING | OXYGEN_SETUP_VALID;
+
+    //The values of the booleans, if they are included
+    private static final int THERMAL_NORMALISING_VALUE = 16;
+    private static final int OXYGEN_SETUP_VALID_VALUE = 32;
+
+    private int changed;
+    private int airRemaining;
+    private int airRemaining2;
+    private int thermalLevel;
+    private boolean thermalLevelNormalising;
+    private boolean oxygenSetupValid;
+
+    public PacketPlayerHud()
+    {
+        super();
+    }
+
+    public PacketPlayerHud(int dimensionID, int changed, int airRemaining, int airRemaining2, int thermalLevel, boolean thermalLevelNormalising, boolean oxygenSetupValid)
+    {
+        super(dimensionID);
+        this.changed = changed;
+        this.airRemaining = airRemaining;
+        this.airRemaining2 = airRemaining2;
+        this.thermalLevel = thermalLevel;
+        this.thermalLevelNormalising = thermalLevelNormalising;
+        this.oxygenSetupValid = oxygenSetupValid;
+    }
+
+    @Override
+    public void encodeInto(ByteBuf buffer)
+    {
+        super.encodeInto(buffer);
+        int flags = this.changed;
+        if (this.thermalLevelNormalising)
+        {
+            flags |= PacketPlayerHud.THERMAL_NORMALISING_VALUE;
+        }
+        if (this.oxygenSetupValid)
+        {
+            flags |= PacketPlayerHud.OXYGEN_SETUP_VALID_VALUE;
+        }
+        buffer.writeByte(flags);
+
+        if ((this.changed & PacketPlayerHud.AIR_REMAINING) != 0)
+        {
+            buffer.writeInt(this.airRemaining);
+            buffer.writeInt(this.airRemaining2);
+        }
+
+        if ((this.changed & PacketPlayerHud.THERMAL_LEVEL) != 0)
+        {
+            buffer.writeByte(this.thermalLevel);
+        }
+    }
+
+    @Override
+    public void decodeInto(ByteBuf buffer)
+    {
+        super.decodeInto(buffer);
+        int flags = buffer.readUnsignedByte();
+        this.changed = flags & PacketPlayerHud.ALL;
+        this.thermalLevelNormalising = (flags & PacketPlayerHud.THERMAL_NORMALISING_VALUE) != 0;
+        this.oxygenSetupValid = (flags & PacketPlayerHud.OXYGEN_SETUP_VALID_VALUE) != 0;
+
+        if ((this.changed & PacketPlayerHud.AIR_REMAINING) != 0)
+        {
+            this.airRemaining = buffer.readInt();
+            this.airRemaining2 = buffer.readInt();
+        }
+
+        if ((this.changed & PacketPlayerHud.THERMAL_LEVEL) != 0)
+        {
+            this.thermalLevel = buffer.readByte();
+        }
+    }
+
+    @SideOnly(Side.CLIENT)
+    @Override
+    public void handleClientSide(EntityPlayer player)
+    {
+        if (!(player instanceof EntityPlayerSP))
+        {
+            return;
+        }
+
+        GCPlayerStatsClient stats = GCPlayerStatsClient.get(player);
+
+        if ((this.changed & PacketPlayerHud.AIR_REMAINING) != 0)
+        {
+            TickHandlerClient.airRemaining = this.airRemaining;
+            TickHandlerClient.airRemaining2 = this.airRemaining2;
+        }
+
+        if ((this.changed & PacketPlayerHud.THERMAL_LEVEL) != 0)
+        {
+            stats.setThermalLevel(this.thermalLevel);
+        }
+
+        if ((this.changed & PacketPlayerHud.THERMAL_NORMALISING) != 0)
+        {
+            stats.setThermalLevelNormalising(this.thermalLevelNormalising);
+        }
+
+        if ((this.changed & PacketPlayerHud.OXYGEN_SETUP_VALID) != 0)
+        {
+            stats.setOxygenSetupValid(this.oxygenSetupValid);
+        }
+    }
+
+    @Override
+    public void handleServerSide(EntityPlayer player)
+    {
+
+    }
+}
@@ -5,7 +5,7 @@ import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 
-public class PacketRotateRocket extends PacketBase
+public class PacketRotateRocket extends PacketBase implements ICoalescingPacket
 {
     private int entityID;
     private float entityPitch;
@@ -59,4 +59,10 @@ public class PacketRotateRocket extends PacketBase
             entity.rotationYaw = this.entityYaw;
         }
     }
+
+    @Override
+    public Object getCoalesceKey()
+    {
+        return this.entityID;
+    }
 }
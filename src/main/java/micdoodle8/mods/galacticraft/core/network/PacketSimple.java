@@ -86,7 +86,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.*;
 
-public class PacketSimple extends PacketBase implements Packet
+public class PacketSimple extends PacketBase implements Packet, ICoalescingPacket
 {
     public enum EnumSimplePacket
     {
@@ -161,7 +161,9 @@ public class PacketSimple extends PacketBase implements Packet
         C_RESPAWN_PLAYER(Side.CLIENT, String.class, Integer.class, String.class, Integer.class),
         C_UPDATE_ARCLAMP_FACING(Side.CLIENT, BlockPos.class, Integer.class),
         C_UPDATE_VIEWSCREEN(Side.CLIENT, BlockPos.class, Integer.class, Integer.class),
+        C_UPDATE_VIEWSCREEN_WALL(Side.CLIENT, BlockPos.class, Integer.class, Integer.class, Integer.class),
         C_UPDATE_TELEMETRY(Side.CLIENT, BlockPos.class, String.class, Integer.class, Integer.class, Integer.class, Integer.class, Integer.class, String.class),
+        C_UPDATE_TELEMETRY_DATA(Side.CLIENT, BlockPos.class, Integer.class, Integer.class, Integer.class, Integer.class, Integer.class),
         C_SEND_PLAYERSKIN(Side.CLIENT, String.class, String.class, String.class, String.class),
         C_SEND_OVERWORLD_IMAGE(Side.CLIENT, Integer.class, Integer.class, byte[].class),
         C_RECOLOR_PIPE(Side.CLIENT, BlockPos.class),
@@ -725,6 +727,13 @@ public class PacketSimple extends PacketBase implements Packet
                 screenTile.refreshNextTick(true);
             }
             break;
+        case C_UPDATE_VIEWSCREEN_WALL:
+            tile = player.worldObj.getTileEntity((BlockPos) this.data.get(0));
+            if (tile instanceof TileEntityScreen)
+            {
+                ((TileEntityScreen) tile).updateWall((Integer) this.data.get(1), (Integer) this.data.get(2), (Integer) this.data.get(3));
+            }
+            break;
         case C_UPDATE_TELEMETRY:
             tile = player.worldObj.getTileEntity((BlockPos) this.data.get(0));
             if (tile instanceof TileEntityTelemetry)
@@ -763,6 +772,18 @@ public class PacketSimple extends PacketBase implements Packet
                 }
             }
             break;
+        case C_UPDATE_TELEMETRY_DATA:
+            tile = player.worldObj.getTileEntity((BlockPos) this.data.get(0));
+            //Ignored until a full C_UPDATE_TELEMETRY has said what is being tracked
+            if (tile instanceof TileEntityTelemetry && ((TileEntityTelemetry) tile).clientClass != null)
+            {
+                ((TileEntityTelemetry) tile).clientData = new int[5];
+                for (int i = 3; i < 6; i++)
+                {
+                    ((TileEntityTelemetry) tile).clientData[i - 3] = (Integer) this.data.get(i);
+                }
+            }
+            break;
         case C_SEND_PLAYERSKIN:
             String strName = (String) this.data.get(0);
             String s1 = (String) this.data.get(1);
@@ -1145,6 +1166,7 @@ public class PacketSimple extends PacketBase implements Packet
                 }
                 else
                 {
+                    SpaceRaceManager.onMembershipChanged();
                     SpaceRaceManager.onPlayerRemoval(playerToRemove, race);
                 }
             }
@@ -1166,6 +1188,7 @@ public class PacketSimple extends PacketBase implements Packet
                     }
 
                     spaceRaceToAddPlayer.getPlayerNames().add(playerToAdd);
+                    SpaceRaceManager.onMembershipChanged();
                     SpaceRaceManager.sendSpaceRaceData(null, spaceRaceToAddPlayer);
 
                     for (String member : spaceRaceToAddPlayer.getPlayerNames())
@@ -1361,6 +1384,24 @@ public class PacketSimple extends PacketBase implements Packet
         }
     }
 
+    @Override
+    public Object getCoalesceKey()
+    {
+        switch (this.type)
+        {
+        //Each of these sets some state to the value in the packet, so only the latest matters
+        case S_UPDATE_SHIP_YAW:
+        case S_UPDATE_SHIP_PITCH:
+        case C_UPDATE_OXYGEN_VALIDITY:
+        case C_UPDATE_STATION_SPIN:
+        case C_UPDATE_STATION_DATA:
+        case C_UPDATE_THERMAL_LEVEL:
+            return this.type;
+        default:
+            return null;
+        }
+    }
+
 	/*
      *
 	 * BEGIN "net.minecraft.network.Packet" IMPLEMENTATION
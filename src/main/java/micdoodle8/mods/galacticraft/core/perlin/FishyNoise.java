@@ -133,4 +133,121 @@ public class FishyNoise
         return lerp1 + w * (f3 + v * (f4 - f3) - lerp1);
     }
 
+    /**
+     * Fills out[ix * ys.length + iy] with noise2d(xs[ix] + offsetX, ys[iy] + offsetY).
+     * Same arithmetic as noise2d() - so the same results bit for bit - but everything which
+     * depends only on x is worked out once per column instead of once per point.
+     */
+    public void noise2dGrid(float[] out, float[] xs, float offsetX, float[] ys, float offsetY)
+    {
+        final int h = ys.length;
+        for (int ix = 0; ix < xs.length; ix++)
+        {
+            float x = xs[ix] + offsetX;
+            int largeX = x > 0 ? (int) x : (int) x - 1;
+            x -= largeX;
+            largeX &= 255;
+            final float u = x * x * x * (x * (x * 6 - 15) + 10);
+            final float x1 = x - 1;
+            int index = ix * h;
+
+            for (int iy = 0; iy < h; iy++)
+            {
+                float y = ys[iy] + offsetY;
+                int largeY = y > 0 ? (int) y : (int) y - 1;
+                y -= largeY;
+                largeY &= 255;
+
+                final float v = y * y * y * (y * (y * 6 - 15) + 10);
+                final float y1 = y - 1;
+
+                final int randY = this.perm[largeY] + largeX;
+                final int randY1 = this.perm[largeY + 1] + largeX;
+                float[] grad2 = this.grad2d[this.perm[randY] & 15];
+                final float grad00 = grad2[0] * x + grad2[1] * y;
+                grad2 = this.grad2d[this.perm[randY1] & 15];
+                final float grad01 = grad2[0] * x + grad2[1] * y1;
+                grad2 = this.grad2d[this.perm[1 + randY1] & 15];
+                final float grad11 = grad2[0] * x1 + grad2[1] * y1;
+                grad2 = this.grad2d[this.perm[1 + randY] & 15];
+                final float grad10 = grad2[0] * x1 + grad2[1] * y;
+
+                final float lerpX0 = grad00 + u * (grad10 - grad00);
+                out[index++] = lerpX0 + v * (grad01 + u * (grad11 - grad01) - lerpX0);
+            }
+        }
+    }
+
+    /**
+     * Fills out[(ix * zs.length + iz) * ys.length + iy] with
+     * noise3d(xs[ix] + offsetX, ys[iy] + offsetY, zs[iz] + offsetZ) - the same layout as a chunk's
+     * block array.  Bit for bit the same as noise3d(), with the x and z parts worked out once per column.
+     */
+    public void noise3dGrid(float[] out, float[] xs, float offsetX, float[] ys, float offsetY, float[] zs, float offsetZ)
+    {
+        final int h = ys.length;
+        int index = 0;
+        for (int ix = 0; ix < xs.length; ix++)
+        {
+            float x = xs[ix] + offsetX;
+            int unitX = x > 0 ? (int) x : (int) x - 1;
+            x -= unitX;
+            unitX &= 255;
+            final float u = x * x * x * (x * (x * 6 - 15) + 10);
+            final float x1 = x - 1;
+
+            for (int iz = 0; iz < zs.length; iz++)
+            {
+                float z = zs[iz] + offsetZ;
+                int unitZ = z > 0 ? (int) z : (int) z - 1;
+                z -= unitZ;
+                unitZ &= 255;
+                final float w = z * z * z * (z * (z * 6 - 15) + 10);
+                final float z1 = z - 1;
+                final int permZ = this.perm[unitZ];
+                final int permZ1 = this.perm[unitZ + 1];
+
+                for (int iy = 0; iy < h; iy++)
+                {
+                    float y = ys[iy] + offsetY;
+                    int unitY = y > 0 ? (int) y : (int) y - 1;
+                    y -= unitY;
+                    unitY &= 255;
+                    final float v = y * y * y * (y * (y * 6 - 15) + 10);
+                    final float y1 = y - 1;
+
+                    final int randZ = permZ + unitY;
+                    final int randZ1 = permZ1 + unitY;
+                    final int randYZ = this.perm[randZ] + unitX;
+                    final int randY1Z = this.perm[1 + randZ] + unitX;
+                    final int randYZ1 = this.perm[randZ1] + unitX;
+                    final int randY1Z1 = this.perm[1 + randZ1] + unitX;
+                    int[] grad3 = this.grad3d[this.perm[randYZ] & 15];
+                    final float grad000 = grad3[0] * x + grad3[1] * y + grad3[2] * z;
+                    grad3 = this.grad3d[this.perm[1 + randYZ] & 15];
+                    final float grad100 = grad3[0] * x1 + grad3[1] * y + grad3[2] * z;
+                    grad3 = this.grad3d[this.perm[randY1Z] & 15];
+                    final float grad010 = grad3[0] * x + grad3[1] * y1 + grad3[2] * z;
+                    grad3 = this.grad3d[this.perm[1 + randY1Z] & 15];
+                    final float grad110 = grad3[0] * x1 + grad3[1] * y1 + grad3[2] * z;
+                    grad3 = this.grad3d[this.perm[randYZ1] & 15];
+                    final float grad001 = grad3[0] * x + grad3[1] * y + grad3[2] * z1;
+                    grad3 = this.grad3d[this.perm[1 + randYZ1] & 15];
+                    final float grad101 = grad3[0] * x1 + grad3[1] * y + grad3[2] * z1;
+                    grad3 = this.grad3d[this.perm[randY1Z1] & 15];
+                    final float grad011 = grad3[0] * x + grad3[1] * y1 + grad3[2] * z1;
+                    grad3 = this.grad3d[this.perm[1 + randY1Z1] & 15];
+                    final float grad111 = grad3[0] * x1 + grad3[1] * y1 + grad3[2] * z1;
+
+                    float f1 = grad000 + u * (grad100 - grad000);
+                    float f2 = grad010 + u * (grad110 - grad010);
+                    float f3 = grad001 + u * (grad101 - grad001);
+                    float f4 = grad011 + u * (grad111 - grad011);
+                    float lerp1 = f1 + v * (f2 - f1);
+                    out[index++] = lerp1 + w * (f3 + v * (f4 - f3) - lerp1);
+                }
+            }
+        }
+    }
+
 }
@@ -20,4 +20,67 @@ public abstract class NoiseModule
         this.frequencyZ = frequency;
     }
 
+    /**
+     * Fills out[ix * h + iz] with getNoise(x0 + ix * dx, z0 + iz * dz), for a w x h grid.
+     * Subclasses override this to set up each octave once for the whole grid instead of once per
+     * point; the results must stay exactly the same as calling getNoise().
+     */
+    public void fillNoise2d(float[] out, float x0, float z0, float dx, float dz, int w, int h)
+    {
+        int index = 0;
+        for (int ix = 0; ix < w; ix++)
+        {
+            final float x = x0 + ix * dx;
+            for (int iz = 0; iz < h; iz++)
+            {
+                out[index++] = this.getNoise(x, z0 + iz * dz);
+            }
+        }
+    }
+
+    /**
+     * Fills out[(ix * sizeZ + iz) * sizeY + iy] with getNoise(x0 + ix * dx, y0 + iy * dy, z0 + iz * dz)
+     * - the same layout as a chunk's block array.
+     */
+    public void fillNoise3d(float[] out, float x0, float y0, float z0, float dx, float dy, float dz, int sizeX, int sizeY, int sizeZ)
+    {
+        int index = 0;
+        for (int ix = 0; ix < sizeX; ix++)
+        {
+            final float x = x0 + ix * dx;
+            for (int iz = 0; iz < sizeZ; iz++)
+            {
+                final float z = z0 + iz * dz;
+                for (int iy = 0; iy < sizeY; iy++)
+                {
+                    out[index++] = this.getNoise(x, y0 + iy * dy, z);
+                }
+            }
+        }
+    }
+
+    /**
+     * The coordinates start + n * step for n = 0 .. count - 1, scaled by frequency, as getNoise() works them out.
+     */
+    protected static float[] scaledCoords(float start, float step, int count, float frequency)
+    {
+        final float[] coords = new float[count];
+        for (int n = 0; n < count; n++)
+        {
+            coords[n] = (start + n * step) * frequency;
+        }
+        return coords;
+    }
+
+    /**
+     * Moves scaled coordinates on to the next octave (twice the frequency).
+     */
+    protected static void nextOctave(float[] coords)
+    {
+        for (int n = 0; n < coords.length; n++)
+        {
+            coords[n] *= 2;
+        }
+    }
+
 }
@@ -3,6 +3,7 @@ package micdoodle8.mods.galacticraft.core.perlin.generator;
 import micdoodle8.mods.galacticraft.core.perlin.FishyNoise;
 import micdoodle8.mods.galacticraft.core.perlin.NoiseModule;
 
+import java.util.Arrays;
 import java.util.Random;
 
 public class Billowed extends NoiseModule
@@ -79,4 +80,63 @@ public class Billowed extends NoiseModule
         return val;
     }
 
+    @Override
+    public void fillNoise2d(float[] out, float x0, float z0, float dx, float dz, int w, int h)
+    {
+        final float[] xs = NoiseModule.scaledCoords(x0, dx, w, this.frequencyX);
+        final float[] zs = NoiseModule.scaledCoords(z0, dz, h, this.frequencyY);
+        final int size = w * h;
+        final float[] octave = new float[size];
+
+        if (this.numOctaves == 2)
+        {
+            this.noiseGen.noise2dGrid(out, xs, this.offsetX, zs, this.offsetY);
+            NoiseModule.nextOctave(xs);
+            NoiseModule.nextOctave(zs);
+            this.noiseGen.noise2dGrid(octave, xs, this.offsetX, zs, this.offsetY);
+            for (int n = 0; n < size; n++)
+            {
+                out[n] = Math.abs(out[n] * this.amplitude) + Math.abs(octave[n] * this.amplitude * this.persistance);
+            }
+            return;
+        }
+
+        Arrays.fill(out, 0, size, 0F);
+        float curAmplitude = this.amplitude;
+        for (int o = 0; o < this.numOctaves; o++)
+        {
+            this.noiseGen.noise2dGrid(octave, xs, this.offsetX, zs, this.offsetY);
+            for (int n = 0; n < size; n++)
+            {
+                out[n] += Math.abs(octave[n] * curAmplitude);
+            }
+            NoiseModule.nextOctave(xs);
+            NoiseModule.nextOctave(zs);
+            curAmplitude *= this.persistance;
+        }
+    }
+
+    @Override
+    public void fillNoise3d(float[] out, float x0, float y0, float z0, float dx, float dy, float dz, int sizeX, int sizeY, int sizeZ)
+    {
+        final float[] xs = NoiseModule.scaledCoords(x0, dx, sizeX, this.frequencyX);
+        final float[] ys = NoiseModule.scaledCoords(y0, dy, sizeY, this.frequencyY);
+        final float[] zs = NoiseModule.scaledCoords(z0, dz, sizeZ, this.frequencyZ);
+        final int size = sizeX * sizeY * sizeZ;
+        final float[] octave = new float[size];
+
+        Arrays.fill(out, 0, size, 0F);
+        for (int o = 0; o < this.numOctaves; o++)
+        {
+            this.noiseGen.noise3dGrid(octave, xs, this.offsetX, ys, this.offsetY, zs, this.offsetZ);
+            for (int n = 0; n < size; n++)
+            {
+                out[n] += Math.abs(octave[n] * this.amplitude);
+            }
+            NoiseModule.nextOctave(xs);
+            NoiseModule.nextOctave(ys);
+            NoiseModule.nextOctave(zs);
+        }
+    }
+
 }
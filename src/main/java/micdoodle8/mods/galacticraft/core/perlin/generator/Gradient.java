@@ -3,6 +3,7 @@ package micdoodle8.mods.galacticraft.core.perlin.generator;
 import micdoodle8.mods.galacticraft.core.perlin.FishyNoise;
 import micdoodle8.mods.galacticraft.core.perlin.NoiseModule;
 
+import java.util.Arrays;
 import java.util.Random;
 
 public class Gradient extends NoiseModule
@@ -86,4 +87,72 @@ public class Gradient extends NoiseModule
         return val;
     }
 
+    @Override
+    public void fillNoise2d(float[] out, float x0, float z0, float dx, float dz, int w, int h)
+    {
+        final float[] xs = NoiseModule.scaledCoords(x0, dx, w, this.frequencyX);
+        final float[] zs = NoiseModule.scaledCoords(z0, dz, h, this.frequencyY);
+        final int size = w * h;
+
+        if (this.numOctaves == 1)
+        {
+            this.noiseGen.noise2dGrid(out, xs, this.offsetX, zs, this.offsetY);
+            for (int n = 0; n < size; n++)
+            {
+                out[n] *= this.amplitude;
+            }
+            return;
+        }
+
+        final float[] octave = new float[size];
+        Arrays.fill(out, 0, size, 0F);
+        float curAmplitude = this.amplitude;
+        for (int o = 0; o < this.numOctaves; o++)
+        {
+            this.noiseGen.noise2dGrid(octave, xs, this.offsetX, zs, this.offsetY);
+            for (int n = 0; n < size; n++)
+            {
+                out[n] += octave[n] * curAmplitude;
+            }
+            NoiseModule.nextOctave(xs);
+            NoiseModule.nextOctave(zs);
+            curAmplitude *= this.persistance;
+        }
+    }
+
+    @Override
+    public void fillNoise3d(float[] out, float x0, float y0, float z0, float dx, float dy, float dz, int sizeX, int sizeY, int sizeZ)
+    {
+        final float[] xs = NoiseModule.scaledCoords(x0, dx, sizeX, this.frequencyX);
+        final float[] ys = NoiseModule.scaledCoords(y0, dy, sizeY, this.frequencyY);
+        final float[] zs = NoiseModule.scaledCoords(z0, dz, sizeZ, this.frequencyZ);
+        final int size = sizeX * sizeY * sizeZ;
+
+        if (this.numOctaves == 1)
+        {
+            this.noiseGen.noise3dGrid(out, xs, this.offsetX, ys, this.offsetY, zs, this.offsetZ);
+            for (int n = 0; n < size; n++)
+            {
+                out[n] *= this.amplitude;
+            }
+            return;
+        }
+
+        final float[] octave = new float[size];
+        Arrays.fill(out, 0, size, 0F);
+        float curAmplitude = this.amplitude;
+        for (int o = 0; o < this.numOctaves; o++)
+        {
+            this.noiseGen.noise3dGrid(octave, xs, this.offsetX, ys, this.offsetY, zs, this.offsetZ);
+            for (int n = 0; n < size; n++)
+            {
+                out[n] += octave[n] * curAmplitude;
+            }
+            NoiseModule.nextOctave(xs);
+            NoiseModule.nextOctave(ys);
+            NoiseModule.nextOctave(zs);
+            curAmplitude *= this.persistance;
+        }
+    }
+
 }
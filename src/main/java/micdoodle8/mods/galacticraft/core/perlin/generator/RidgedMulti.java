@@ -3,6 +3,7 @@ package micdoodle8.mods.galacticraft.core.perlin.generator;
 import micdoodle8.mods.galacticraft.core.perlin.FishyNoise;
 import micdoodle8.mods.galacticraft.core.perlin.NoiseModule;
 
+import java.util.Arrays;
 import java.util.Random;
 
 public class RidgedMulti extends NoiseModule
@@ -131,6 +132,78 @@ public class RidgedMulti extends NoiseModule
         return val;
     }
 
+    @Override
+    public void fillNoise2d(float[] out, float x0, float z0, float dx, float dz, int w, int h)
+    {
+        final float[] xs = NoiseModule.scaledCoords(x0, dx, w, this.frequencyX);
+        final float[] zs = NoiseModule.scaledCoords(z0, dz, h, this.frequencyY);
+        final int size = w * h;
+        final float[] octave = new float[size];
+        this.combineOctaves(out, octave, size, xs, null, zs);
+    }
+
+    @Override
+    public void fillNoise3d(float[] out, float x0, float y0, float z0, float dx, float dy, float dz, int sizeX, int sizeY, int sizeZ)
+    {
+        final float[] xs = NoiseModule.scaledCoords(x0, dx, sizeX, this.frequencyX);
+        final float[] ys = NoiseModule.scaledCoords(y0, dy, sizeY, this.frequencyY);
+        final float[] zs = NoiseModule.scaledCoords(z0, dz, sizeZ, this.frequencyZ);
+        final int size = sizeX * sizeY * sizeZ;
+        final float[] octave = new float[size];
+        this.combineOctaves(out, octave, size, xs, ys, zs);
+    }
+
+    /**
+     * The octave loop of getNoise(), run over a whole grid: ys is null for 2D noise (where zs holds the 2D j coordinates).
+     */
+    private void combineOctaves(float[] out, float[] octave, int size, float[] xs, float[] ys, float[] zs)
+    {
+        final float[] weights = new float[size];
+        final float offset = 1.0F;
+        final float gain = 2.0F;
+        Arrays.fill(weights, 1.0F);
+        Arrays.fill(out, 0, size, 0F);
+
+        for (int o = 0; o < this.numOctaves; o++)
+        {
+            if (ys == null)
+            {
+                this.noiseGen.noise2dGrid(octave, xs, this.offsetX, zs, this.offsetY);
+            }
+            else
+            {
+                this.noiseGen.noise3dGrid(octave, xs, this.offsetX, ys, this.offsetY, zs, this.offsetZ);
+                NoiseModule.nextOctave(ys);
+            }
+
+            for (int n = 0; n < size; n++)
+            {
+                float noise = this.absolute(octave[n]);
+                noise = offset - noise;
+                noise *= noise;
+                noise *= weights[n];
+
+                float weight = noise * gain;
+
+                if (weight > 1F)
+                {
+                    weight = 1F;
+                }
+
+                if (weight < 0F)
+                {
+                    weight = 0F;
+                }
+
+                weights[n] = weight;
+                out[n] += noise;
+            }
+
+            NoiseModule.nextOctave(xs);
+            NoiseModule.nextOctave(zs);
+        }
+    }
+
     private float absolute(float d)
     {
         if (d < 0)
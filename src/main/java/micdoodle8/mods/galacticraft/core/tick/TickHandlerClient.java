@@ -2,7 +2,6 @@ package micdoodle8.mods.galacticraft.core.tick;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
-import micdoodle8.mods.galacticraft.api.block.IDetectableResource;
 import micdoodle8.mods.galacticraft.api.entity.IEntityNoisy;
 import micdoodle8.mods.galacticraft.api.entity.IIgnoreShift;
 import micdoodle8.mods.galacticraft.api.prefab.entity.EntityAutoRocket;
@@ -35,9 +34,6 @@ import micdoodle8.mods.galacticraft.core.tile.TileEntityScreen;
 import micdoodle8.mods.galacticraft.core.util.*;
 import micdoodle8.mods.galacticraft.core.wrappers.BlockMetaList;
 import micdoodle8.mods.galacticraft.core.wrappers.Footprint;
-import net.minecraft.block.Block;
-import net.minecraft.block.material.Material;
-import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.audio.ISound;
 import net.minecraft.client.entity.EntityPlayerSP;
@@ -51,7 +47,6 @@ import net.minecraft.client.renderer.WorldRenderer;
 import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.client.resources.I18n;
 import net.minecraft.client.settings.GameSettings;
-import net.minecraft.util.BlockPos;
 import net.minecraft.util.MathHelper;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.WorldProviderSurface;
@@ -107,6 +102,8 @@ public class TickHandlerClient
         {
             packetHandler.unload(event.world);
         }
+
+        SensorGlassesScanner.unload(event.world);
     }
 
     private static ThreadRequirementMissing missingRequirementThread;
@@ -157,6 +154,8 @@ public class TickHandlerClient
                 ClientProxyCore.detectableBlocks.add(new BlockMetaList(bt.block, metaList));
             }
         }
+
+        SensorGlassesScanner.markDetectableStale();
     }
 
     @SubscribeEvent
@@ -376,44 +375,7 @@ public class TickHandlerClient
 
                 if (player != null && player.inventory.armorItemInSlot(3) != null && player.inventory.armorItemInSlot(3).getItem() instanceof ItemSensorGlasses)
                 {
-                    ClientProxyCore.valueableBlocks.clear();
-
-                    for (int i = -4; i < 5; i++)
-                    {
-                        int x = MathHelper.floor_double(player.posX + i);
-                        for (int j = -4; j < 5; j++)
-                        {
-                            int y = MathHelper.floor_double(player.posY + j);
-                            for (int k = -4; k < 5; k++)
-                            {
-                                int z = MathHelper.floor_double(player.posZ + k);
-                                BlockPos pos = new BlockPos(x, y, z);
-
-                                IBlockState state = player.worldObj.getBlockState(pos);
-                                final Block block = state.getBlock();
-
-                                if (block.getMaterial() != Material.air)
-                                {
-                                    int metadata = block.getMetaFromState(state);
-                                    boolean isDetectable = false;
-
-                                    for (BlockMetaList blockMetaList : ClientProxyCore.detectableBlocks)
-                                    {
-                                        if (blockMetaList.getBlock() == block && blockMetaList.getMetaList().contains(metadata))
-                                        {
-                                            isDetectable = true;
-                                            break;
-                                        }
-                                    }
-
-                                    if (isDetectable || (block instanceof IDetectableResource && ((IDetectableResource) block).isValueable(state)))
-                                    {
-                                        ClientProxyCore.valueableBlocks.add(new BlockVec3(x, y, z));
-                                    }
-                                }
-                            }
-                        }
-                    }
+                    SensorGlassesScanner.scan(player.worldObj, MathHelper.floor_double(player.posX), MathHelper.floor_double(player.posY), MathHelper.floor_double(player.posZ), 4, ClientProxyCore.valueableBlocks);
                     TileEntityOxygenSealer nearestSealer = TileEntityOxygenSealer.getNearestSealer(world, MathHelper.floor_double(player.posX), MathHelper.floor_double(player.posY), MathHelper.floor_double(player.posZ));
                     //TODO: revert. Correct code is temporarily commented out for testing render
                     if (nearestSealer != null)// && nearestSealer.threadSeal != null)
@@ -620,11 +582,6 @@ public class TickHandlerClient
         }
     }
 
-    private boolean alreadyContainsBlock(int x1, int y1, int z1)
-    {
-        return ClientProxyCore.valueableBlocks.contains(new BlockVec3(x1, y1, z1));
-    }
-
     public static void zoom(float value)
     {
         FMLClientHandler.instance().getClient().entityRenderer.thirdPersonDistance = value;
@@ -21,10 +21,16 @@ import micdoodle8.mods.galacticraft.core.tile.TileEntityFluidTank;
 import micdoodle8.mods.galacticraft.core.tile.TileEntityFluidTransmitter;
 import micdoodle8.mods.galacticraft.core.tile.TileEntityOxygenSealer;
 import micdoodle8.mods.galacticraft.core.tile.TileEntityPainter;
+import micdoodle8.mods.galacticraft.core.tile.TileEntityScreen;
+import micdoodle8.mods.galacticraft.core.util.AsyncSaveWriter;
+import micdoodle8.mods.galacticraft.core.util.ConfigManagerCore;
 import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
 import micdoodle8.mods.galacticraft.core.util.GCLog;
+import micdoodle8.mods.galacticraft.core.util.GCProfiler;
 import micdoodle8.mods.galacticraft.core.util.MapUtil;
 import micdoodle8.mods.galacticraft.core.util.WorldUtil;
+import micdoodle8.mods.galacticraft.core.world.MeteorScheduler;
+import micdoodle8.mods.galacticraft.core.world.OilRetrogenTracker;
 import micdoodle8.mods.galacticraft.core.wrappers.Footprint;
 import micdoodle8.mods.galacticraft.core.wrappers.ScheduledBlockChange;
 import micdoodle8.mods.galacticraft.core.wrappers.ScheduledDimensionChange;
@@ -61,6 +67,7 @@ public class TickHandlerServer
     private static Map<Integer, CopyOnWriteArrayList<ScheduledBlockChange>> scheduledBlockChanges = new ConcurrentHashMap<Integer, CopyOnWriteArrayList<ScheduledBlockChange>>();
     private static Map<Integer, CopyOnWriteArrayList<BlockVec3>> scheduledTorchUpdates = new ConcurrentHashMap<Integer, CopyOnWriteArrayList<BlockVec3>>();
     private static Map<Integer, List<BlockPos>> edgeChecks = new HashMap<Integer, List<BlockPos>>();
+    private static Map<Integer, Set<TileEntityScreen>> screenUpdates = new HashMap<Integer, Set<TileEntityScreen>>();
     private static LinkedList<EnergyNetwork> networkTicks = new LinkedList<EnergyNetwork>();
     public static Map<Integer, Map<Long, List<Footprint>>> serverFootprintMap = new HashMap<Integer, Map<Long, List<Footprint>>>();
     public static List<BlockVec3Dim> footprintBlockChanges = Lists.newArrayList();
@@ -89,6 +96,11 @@ public class TickHandlerServer
         TickHandlerServer.packetHandlers.add(handler);
     }
 
+    public static List<GalacticraftPacketHandler> getPacketHandlers()
+    {
+        return TickHandlerServer.packetHandlers;
+    }
+
     @SubscribeEvent
     public void worldUnloadEvent(WorldEvent.Unload event)
     {
@@ -96,6 +108,8 @@ public class TickHandlerServer
         {
             packetHandler.unload(event.world);
         }
+        TickHandlerServer.screenUpdates.remove(GCCoreUtil.getDimensionID(event.world));
+        MeteorScheduler.unload(event.world);
     }
 
     public static void restart()
@@ -103,6 +117,7 @@ public class TickHandlerServer
         TickHandlerServer.scheduledBlockChanges.clear();
         TickHandlerServer.scheduledTorchUpdates.clear();
         TickHandlerServer.edgeChecks.clear();
+        TickHandlerServer.screenUpdates.clear();
         TickHandlerServer.networkTicks.clear();
         TickHandlerServer.serverFootprintMap.clear();
         TickHandlerServer.oxygenTransmitterUpdates.clear();
@@ -110,16 +125,22 @@ public class TickHandlerServer
         TickHandlerServer.energyTransmitterUpdates.clear();
         TickHandlerServer.playersRequestingMapData.clear();
         TickHandlerServer.networkTicks.clear();
+        GCProfiler.setEnabled(false);
+        GCProfiler.reset();
 
         for (SpaceRace race : SpaceRaceManager.getSpaceRaces())
         {
             SpaceRaceManager.removeSpaceRace(race);
         }
+        SpaceRaceManager.clearOnlinePlayers();
 
         TickHandlerServer.spaceRaceData = null;
         TickHandlerServer.tickCount = 0L;
         TickHandlerServer.fluidNetworks.clear();
         MapUtil.reset();
+        AsyncSaveWriter.reset();
+        OilRetrogenTracker.reset();
+        MeteorScheduler.reset();
     }
 
     public static void addFootprint(long chunkKey, Footprint print, int dimID)
@@ -211,6 +232,20 @@ public class TickHandlerServer
         TickHandlerServer.edgeChecks.put(dimID, updateList);
     }
 
+    public static void scheduleScreenUpdate(TileEntityScreen screen)
+    {
+        int dimID = GCCoreUtil.getDimensionID(screen.getWorld());
+        Set<TileEntityScreen> updateSet = TickHandlerServer.screenUpdates.get(dimID);
+
+        if (updateSet == null)
+        {
+            updateSet = new HashSet<TileEntityScreen>();
+            TickHandlerServer.screenUpdates.put(dimID, updateSet);
+        }
+
+        updateSet.add(screen);
+    }
+
     public static boolean scheduledForChange(int dimID, BlockPos test)
     {
         CopyOnWriteArrayList<ScheduledBlockChange> changeList = TickHandlerServer.scheduledBlockChanges.get(dimID);
@@ -299,7 +334,9 @@ public class TickHandlerServer
                 }
             }
 
+            long profileStart = GCProfiler.start();
             SpaceRaceManager.tick();
+            GCProfiler.end(GCProfiler.Section.SPACE_RACE, GCProfiler.ALL_DIMENSIONS, profileStart);
 
             if (TickHandlerServer.tickCount % 33 == 0)
             {
@@ -319,6 +356,7 @@ public class TickHandlerServer
                 {
                     WorldServer world = worlds[i];
                     ChunkProviderServer chunkProviderServer = world.theChunkProviderServer;
+                    profileStart = GCProfiler.start();
 
                     Map<Long, List<Footprint>> footprintMap = TickHandlerServer.serverFootprintMap.get(GCCoreUtil.getDimensionID(world));
 
@@ -369,6 +407,8 @@ public class TickHandlerServer
                             TickHandlerServer.serverFootprintMap.put(GCCoreUtil.getDimensionID(world), footprintMap);
                         }
                     }
+
+                    GCProfiler.end(GCProfiler.Section.FOOTPRINTS, GCCoreUtil.getDimensionID(world), profileStart);
                 }
             }
 
@@ -442,7 +482,9 @@ public class TickHandlerServer
             {
                 if (!network.pipes.isEmpty())
                 {
+                    long profileStart = GCProfiler.start();
                     network.tickEnd();
+                    GCProfiler.end(GCProfiler.Section.FLUID_NETWORKS, profileStart, network.pipes);
                 }
                 else
                 {
@@ -458,7 +500,9 @@ public class TickHandlerServer
                 TickHandlerServer.networkTicks.clear();
                 for (EnergyNetwork grid : pass)
                 {
+                    long profileStart = GCProfiler.start();
                     grid.tickEnd();
+                    GCProfiler.end(GCProfiler.Section.ENERGY_NETWORKS, profileStart, grid.getTransmitters());
                 }
 
                 if (--maxPasses <= 0)
@@ -467,45 +511,11 @@ public class TickHandlerServer
                 }
             }
 
-            maxPasses = 10;
-            while (!TickHandlerServer.oxygenTransmitterUpdates.isEmpty())
-            {
-                LinkedList<TileEntityFluidTransmitter> pass = new LinkedList();
-                pass.addAll(TickHandlerServer.oxygenTransmitterUpdates);
-                TickHandlerServer.oxygenTransmitterUpdates.clear();
-                for (TileEntityFluidTransmitter newTile : pass)
-                {
-                    if (!newTile.isInvalid())
-                    {
-                        newTile.refresh();
-                    }
-                }
-
-                if (--maxPasses <= 0)
-                {
-                    break;
-                }
-            }
-
-            maxPasses = 10;
-            while (!TickHandlerServer.energyTransmitterUpdates.isEmpty())
-            {
-                LinkedList<TileBaseConductor> pass = new LinkedList();
-                pass.addAll(TickHandlerServer.energyTransmitterUpdates);
-                TickHandlerServer.energyTransmitterUpdates.clear();
-                for (TileBaseConductor newTile : pass)
-                {
-                    if (!newTile.isInvalid())
-                    {
-                        newTile.refresh();
-                    }
-                }
+            long profileStart = GCProfiler.start();
+            TransmitterBatchBuilder.tick(TickHandlerServer.oxygenTransmitterUpdates, TickHandlerServer.energyTransmitterUpdates);
+            GCProfiler.end(GCProfiler.Section.TRANSMITTER_UPDATES, GCProfiler.ALL_DIMENSIONS, profileStart);
 
-                if (--maxPasses <= 0)
-                {
-                    break;
-                }
-            }
+            GCProfiler.endTick();
         }
     }
 
@@ -522,6 +532,7 @@ public class TickHandlerServer
         if (event.phase == Phase.START)
         {
             final WorldServer world = (WorldServer) event.world;
+            long profileStart = GCProfiler.start();
 
             CopyOnWriteArrayList<ScheduledBlockChange> changeList = TickHandlerServer.scheduledBlockChanges.get(GCCoreUtil.getDimensionID(world));
 
@@ -581,6 +592,8 @@ public class TickHandlerServer
                 TickHandlerServer.scheduledTorchUpdates.remove(GCCoreUtil.getDimensionID(world));
             }
 
+            GCProfiler.end(GCProfiler.Section.SCHEDULED_BLOCKS, GCCoreUtil.getDimensionID(world), profileStart);
+
             if (world.provider instanceof IOrbitDimension)
             {
                 final Object[] entityList = world.loadedEntityList.toArray();
@@ -630,12 +643,25 @@ public class TickHandlerServer
         else if (event.phase == Phase.END)
         {
             final WorldServer world = (WorldServer) event.world;
+            long profileStart = GCProfiler.start();
 
             for (GalacticraftPacketHandler handler : packetHandlers)
             {
                 handler.tick(world);
             }
 
+            GCProfiler.end(GCProfiler.Section.PACKETS, GCCoreUtil.getDimensionID(world), profileStart);
+
+            Set<TileEntityScreen> screens = TickHandlerServer.screenUpdates.remove(GCCoreUtil.getDimensionID(world));
+            if (screens != null)
+            {
+                TileEntityScreen.updateWalls(world, screens);
+            }
+
+            profileStart = GCProfiler.start();
+            MeteorScheduler.tick(world);
+            GCProfiler.end(GCProfiler.Section.METEORS, GCCoreUtil.getDimensionID(world), profileStart);
+
             List<BlockPos> edgesList = TickHandlerServer.edgeChecks.get(GCCoreUtil.getDimensionID(world));
             final HashSet<BlockVec3> checkedThisTick = new HashSet();
 
@@ -652,13 +678,22 @@ public class TickHandlerServer
                             continue;
                         }
 
+                        profileStart = GCProfiler.start();
                         ThreadFindSeal done = new ThreadFindSeal(world, edgeBlock, 2000, new ArrayList<TileEntityOxygenSealer>());
                         checkedThisTick.addAll(done.checked);
+                        GCProfiler.end(GCProfiler.Section.SEALER_CHECKS, GCCoreUtil.getDimensionID(world), profileStart, edgeBlock);
                     }
                 }
 
                 TickHandlerServer.edgeChecks.remove(GCCoreUtil.getDimensionID(world));
             }
+
+            if (ConfigManagerCore.retrogenOil && GCCoreUtil.getDimensionID(world) == 0)
+            {
+                profileStart = GCProfiler.start();
+                OilRetrogenTracker.tick(world);
+                GCProfiler.end(GCProfiler.Section.OIL_RETROGEN, 0, profileStart);
+            }
         }
     }
 }
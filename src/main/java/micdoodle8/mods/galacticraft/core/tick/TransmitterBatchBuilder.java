@@ -0,0 +1,302 @@
+package micdoodle8.mods.galacticraft.core.tick;
+
+import micdoodle8.mods.galacticraft.api.transmission.NetworkType;
+import micdoodle8.mods.galacticraft.api.transmission.tile.IBufferTransmitter;
+import micdoodle8.mods.galacticraft.api.vector.BlockVec3;
+import micdoodle8.mods.galacticraft.core.energy.grid.EnergyNetwork;
+import micdoodle8.mods.galacticraft.core.energy.tile.TileBaseConductor;
+import micdoodle8.mods.galacticraft.core.fluid.FluidNetwork;
+import micdoodle8.mods.galacticraft.core.tile.TileEntityAluminumWireSwitch;
+import micdoodle8.mods.galacticraft.core.tile.TileEntityFluidTransmitter;
+import micdoodle8.mods.galacticraft.core.util.GCLog;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.BlockPos;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
+
+import java.util.*;
+
+/**
+ * Builds the networks for all transmitters placed (or loaded) during one tick in a single pass.
+ *
+ * Calling refresh() on each new transmitter one at a time merges networks pairwise, so a long row
+ * of wire or pipe placed in one go (by a builder's wand or a schematic) costs O(n^2).  Here the
+ * pending transmitters in each dimension are split into connected components first, and then each
+ * component is joined with all the existing networks it touches in one merge.
+ */
+public class TransmitterBatchBuilder
+{
+    private static long lastTickNanos;
+    private static int lastTransmitters;
+    private static int lastComponents;
+
+    /**
+     * Joins up the networks for all the pending conductors.
+     */
+    public static void buildEnergy(List<TileBaseConductor> pending)
+    {
+        Map<World, Map<BlockPos, TileBaseConductor>> byWorld = new HashMap<World, Map<BlockPos, TileBaseConductor>>();
+
+        for (TileBaseConductor tile : pending)
+        {
+            if (tile.isInvalid() || tile.getWorld() == null || tile.getWorld().isRemote)
+            {
+                continue;
+            }
+
+            if (tile instanceof TileEntityAluminumWireSwitch)
+            {
+                //Switches manage their own connections depending on redstone state
+                tile.refresh();
+                lastTransmitters++;
+                continue;
+            }
+
+            Map<BlockPos, TileBaseConductor> worldPending = byWorld.get(tile.getWorld());
+            if (worldPending == null)
+            {
+                worldPending = new HashMap<BlockPos, TileBaseConductor>();
+                byWorld.put(tile.getWorld(), worldPending);
+            }
+            worldPending.put(tile.getPos(), tile);
+        }
+
+        for (Map.Entry<World, Map<BlockPos, TileBaseConductor>> entry : byWorld.entrySet())
+        {
+            World world = entry.getKey();
+            Map<BlockPos, TileBaseConductor> worldPending = entry.getValue();
+            Set<BlockPos> done = new HashSet<BlockPos>();
+            LinkedList<TileBaseConductor> queue = new LinkedList<TileBaseConductor>();
+
+            for (TileBaseConductor start : worldPending.values())
+            {
+                if (!done.add(start.getPos()))
+                {
+                    continue;
+                }
+
+                List<TileBaseConductor> component = new ArrayList<TileBaseConductor>();
+                Set<EnergyNetwork> networks = new HashSet<EnergyNetwork>();
+                queue.add(start);
+
+                while (!queue.isEmpty())
+                {
+                    TileBaseConductor tile = queue.removeFirst();
+                    tile.adjacentConnections = null;
+                    component.add(tile);
+                    if (tile.hasNetwork())
+                    {
+                        networks.add((EnergyNetwork) tile.getNetwork());
+                    }
+
+                    BlockVec3 thisVec = new BlockVec3(tile);
+                    for (EnumFacing side : EnumFacing.VALUES)
+                    {
+                        BlockPos sidePos = tile.getPos().offset(side);
+                        TileEntity tileEntity = worldPending.get(sidePos);
+                        if (tileEntity == null)
+                        {
+                            tileEntity = thisVec.getTileEntityOnSide(world, side);
+                        }
+
+                        if (tileEntity instanceof TileBaseConductor && ((TileBaseConductor) tileEntity).canConnect(side.getOpposite(), NetworkType.POWER))
+                        {
+                            TileBaseConductor conductor = (TileBaseConductor) tileEntity;
+                            if (worldPending.get(sidePos) == conductor)
+                            {
+                                if (done.add(sidePos))
+                                {
+                                    queue.add(conductor);
+                                }
+                            }
+                            else if (conductor.hasNetwork() && !conductor.getNetwork().getTransmitters().isEmpty())
+                            {
+                                networks.add((EnergyNetwork) conductor.getNetwork());
+                            }
+                        }
+                    }
+                }
+
+                EnergyNetwork target = null;
+                for (EnergyNetwork network : networks)
+                {
+                    if (target == null || network.getTransmitters().size() > target.getTransmitters().size())
+                    {
+                        target = network;
+                    }
+                }
+                if (target == null)
+                {
+                    target = new EnergyNetwork();
+                }
+
+                target.absorb(networks, component);
+                lastTransmitters += component.size();
+                lastComponents++;
+            }
+        }
+    }
+
+    /**
+     * Joins up the networks for all the pending fluid transmitters.
+     */
+    public static void buildFluid(List<TileEntityFluidTransmitter> pending)
+    {
+        Map<World, Map<BlockPos, TileEntityFluidTransmitter>> byWorld = new HashMap<World, Map<BlockPos, TileEntityFluidTransmitter>>();
+
+        for (TileEntityFluidTransmitter tile : pending)
+        {
+            if (tile.isInvalid() || tile.getWorld() == null || tile.getWorld().isRemote)
+            {
+                continue;
+            }
+
+            Map<BlockPos, TileEntityFluidTransmitter> worldPending = byWorld.get(tile.getWorld());
+            if (worldPending == null)
+            {
+                worldPending = new HashMap<BlockPos, TileEntityFluidTransmitter>();
+                byWorld.put(tile.getWorld(), worldPending);
+            }
+            worldPending.put(tile.getPos(), tile);
+        }
+
+        for (Map.Entry<World, Map<BlockPos, TileEntityFluidTransmitter>> entry : byWorld.entrySet())
+        {
+            World world = entry.getKey();
+            Map<BlockPos, TileEntityFluidTransmitter> worldPending = entry.getValue();
+            Set<BlockPos> done = new HashSet<BlockPos>();
+            LinkedList<TileEntityFluidTransmitter> queue = new LinkedList<TileEntityFluidTransmitter>();
+
+            for (TileEntityFluidTransmitter start : worldPending.values())
+            {
+                if (!done.add(start.getPos()))
+                {
+                    continue;
+                }
+
+                List<IBufferTransmitter<FluidStack>> component = new ArrayList<IBufferTransmitter<FluidStack>>();
+                Set<FluidNetwork> networks = new LinkedHashSet<FluidNetwork>();
+                queue.add(start);
+
+                while (!queue.isEmpty())
+                {
+                    TileEntityFluidTransmitter tile = queue.removeFirst();
+                    tile.adjacentConnections = null;
+                    component.add(tile);
+                    if (tile.hasNetwork())
+                    {
+                        networks.add((FluidNetwork) tile.getNetwork());
+                    }
+
+                    BlockVec3 thisVec = new BlockVec3(tile);
+                    for (EnumFacing side : EnumFacing.VALUES)
+                    {
+                        BlockPos sidePos = tile.getPos().offset(side);
+                        TileEntity tileEntity = worldPending.get(sidePos);
+                        if (tileEntity == null)
+                        {
+                            tileEntity = thisVec.getTileEntityOnSide(world, side);
+                        }
+
+                        //Same rules as TileEntityFluidTransmitter.refresh(): only pipes of the same class join up
+                        if (tileEntity != null && tileEntity.getClass() == tile.getClass() && ((TileEntityFluidTransmitter) tileEntity).canConnect(side.getOpposite(), NetworkType.FLUID))
+                        {
+                            TileEntityFluidTransmitter transmitter = (TileEntityFluidTransmitter) tileEntity;
+                            if (worldPending.get(sidePos) == transmitter)
+                            {
+                                if (done.add(sidePos))
+                                {
+                                    queue.add(transmitter);
+                                }
+                            }
+                            else if (transmitter.hasNetwork())
+                            {
+                                networks.add((FluidNetwork) transmitter.getNetwork());
+                            }
+                        }
+                    }
+                }
+
+                FluidNetwork target;
+                if (networks.isEmpty())
+                {
+                    target = new FluidNetwork();
+                    target.register();
+                }
+                else if (networks.size() == 1)
+                {
+                    target = networks.iterator().next();
+                }
+                else
+                {
+                    target = new FluidNetwork(networks);
+                }
+
+                target.addTransmitters(component);
+                lastTransmitters += component.size();
+                lastComponents++;
+            }
+        }
+    }
+
+    /**
+     * Drains both transmitter update lists.  Refreshing can cause chunk loading, which may queue
+     * more transmitters, so this runs a few passes like the old one-by-one refresh did.
+     */
+    public static void tick(List<TileEntityFluidTransmitter> fluidPending, List<TileBaseConductor> energyPending)
+    {
+        if (fluidPending.isEmpty() && energyPending.isEmpty())
+        {
+            return;
+        }
+
+        long start = System.nanoTime();
+        lastTransmitters = 0;
+        lastComponents = 0;
+
+        int maxPasses = 10;
+        while (!fluidPending.isEmpty())
+        {
+            List<TileEntityFluidTransmitter> pass = new ArrayList<TileEntityFluidTransmitter>(fluidPending);
+            fluidPending.clear();
+            TransmitterBatchBuilder.buildFluid(pass);
+
+            if (--maxPasses <= 0)
+            {
+                break;
+            }
+        }
+
+        maxPasses = 10;
+        while (!energyPending.isEmpty())
+        {
+            List<TileBaseConductor> pass = new ArrayList<TileBaseConductor>(energyPending);
+            energyPending.clear();
+            TransmitterBatchBuilder.buildEnergy(pass);
+
+            if (--maxPasses <= 0)
+            {
+                break;
+            }
+        }
+
+        lastTickNanos = System.nanoTime() - start;
+        GCLog.debug("Transmitter batch: " + lastTransmitters + " transmitters in " + lastComponents + " groups took " + (lastTickNanos / 1000) + "us");
+    }
+
+    public static long getLastTickNanos()
+    {
+        return lastTickNanos;
+    }
+
+    public static int getLastTransmitters()
+    {
+        return lastTransmitters;
+    }
+
+    public static int getLastComponents()
+    {
+        return lastComponents;
+    }
+}
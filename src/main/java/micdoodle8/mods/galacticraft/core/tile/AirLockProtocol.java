@@ -1,14 +1,25 @@
 package micdoodle8.mods.galacticraft.core.tile;
 
+import com.google.common.collect.MapMaker;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.BlockPos;
 import net.minecraft.world.World;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * Finds an air lock controller's frame.  The frame found is kept until an air lock block is
+ * placed, broken, loaded or unloaded inside or next to the frame's bounds (see onFrameChanged).
+ */
 class AirLockProtocol
 {
+    //The protocols of the loaded controllers in each world
+    private static final Map<World, Set<AirLockProtocol>> protocols = new MapMaker().weakKeys().makeMap();
+
     private ArrayList<BlockPos> adjacentAirLocks;
     private HashSet<BlockPos> checked;
     private final World worldObj;
@@ -28,6 +39,10 @@ class AirLockProtocol
     public int minZ = 6000000;
     public int maxZ = -6000000;
 
+    private boolean stale = true;
+    private boolean frameHorizontal;
+    private ArrayList<BlockPos> frame;
+
     public AirLockProtocol(TileEntity head)
     {
         this.adjacentAirLocks = new ArrayList<BlockPos>();
@@ -37,6 +52,70 @@ class AirLockProtocol
         this.maxLoops = 26;
     }
 
+    /**
+     * Start being told about changes to air lock blocks near the frame.
+     */
+    public void register()
+    {
+        Set<AirLockProtocol> set = AirLockProtocol.protocols.get(this.worldObj);
+
+        if (set == null)
+        {
+            set = Collections.newSetFromMap(new MapMaker().weakKeys().<AirLockProtocol, Boolean>makeMap());
+            AirLockProtocol.protocols.put(this.worldObj, set);
+        }
+
+        set.add(this);
+    }
+
+    public void unregister()
+    {
+        Set<AirLockProtocol> set = AirLockProtocol.protocols.get(this.worldObj);
+
+        if (set != null)
+        {
+            set.remove(this);
+        }
+    }
+
+    /**
+     * Call when an air lock block at pos is placed, broken, loaded or unloaded.  Any frame
+     * which it could join or be part of will be found again.
+     */
+    public static void onFrameChanged(World world, BlockPos pos)
+    {
+        Set<AirLockProtocol> set = AirLockProtocol.protocols.get(world);
+
+        if (set == null)
+        {
+            return;
+        }
+
+        for (AirLockProtocol protocol : set)
+        {
+            //A block can only join the frame's air locks if it is next to one of them
+            if (pos.getX() >= protocol.minX - 1 && pos.getX() <= protocol.maxX + 1 && pos.getY() >= protocol.minY - 1 && pos.getY() <= protocol.maxY + 1 && pos.getZ() >= protocol.minZ - 1 && pos.getZ() <= protocol.maxZ + 1)
+            {
+                protocol.stale = true;
+            }
+        }
+    }
+
+    /**
+     * The frame found by calculate(), only calculated again if the frame changed.
+     */
+    public ArrayList<BlockPos> getFrame(boolean horizontal)
+    {
+        if (this.stale || horizontal != this.frameHorizontal)
+        {
+            this.frame = this.calculate(horizontal);
+            this.frameHorizontal = horizontal;
+            this.stale = false;
+        }
+
+        return this.frame;
+    }
+
     public void loopThrough(BlockPos pos, int loops)
     {
         int xAligned = this.head.getPos().getX();
@@ -8,6 +8,35 @@ public class TileEntityAirLock extends TileEntityAdvanced
         super.update();
     }
 
+    @Override
+    public void validate()
+    {
+        super.validate();
+        this.onFrameChanged();
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        this.onFrameChanged();
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        this.onFrameChanged();
+    }
+
+    private void onFrameChanged()
+    {
+        if (this.worldObj != null && !this.worldObj.isRemote)
+        {
+            AirLockProtocol.onFrameChanged(this.worldObj, this.getPos());
+        }
+    }
+
     @Override
     public double getPacketRange()
     {
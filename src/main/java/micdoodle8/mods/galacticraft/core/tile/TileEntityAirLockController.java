@@ -114,6 +114,7 @@ public class TileEntityAirLockController extends TileEntityAirLock
             if (this.protocol == null)
             {
                 this.protocol = this.lastProtocol = new AirLockProtocol(this);
+                this.protocol.register();
             }
 
             if (this.ticks % 5 == 0)
@@ -124,7 +125,7 @@ public class TileEntityAirLockController extends TileEntityAirLock
                 }
                 else if (this.active || this.lastActive)
                 {
-                    this.otherAirLocks = this.protocol.calculate(this.horizontalModeEnabled);
+                    this.otherAirLocks = this.protocol.getFrame(this.horizontalModeEnabled);
 
                     if (this.active && (this.otherAirLocks != null ||
                             this.lastOtherAirLocks != null && (this.otherAirLocks != this.lastOtherAirLocks || this.otherAirLocks.size() != this.lastOtherAirLocks.size() )))
@@ -150,6 +151,26 @@ public class TileEntityAirLockController extends TileEntityAirLock
         }
     }
 
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        if (this.protocol != null)
+        {
+            this.protocol.unregister();
+        }
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        if (this.protocol != null)
+        {
+            this.protocol.unregister();
+        }
+    }
+
     public void sealAirLock()
     {
         int x = (this.lastProtocol.maxX + this.lastProtocol.minX) / 2;
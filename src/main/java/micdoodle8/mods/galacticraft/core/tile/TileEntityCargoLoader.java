@@ -8,6 +8,7 @@ import micdoodle8.mods.galacticraft.api.vector.BlockVec3;
 import micdoodle8.mods.galacticraft.core.blocks.BlockCargoLoader;
 import micdoodle8.mods.galacticraft.core.energy.item.ItemElectricBase;
 import micdoodle8.mods.galacticraft.core.energy.tile.TileBaseElectricBlockWithInventory;
+import micdoodle8.mods.galacticraft.core.util.CargoTransfer;
 import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
 import micdoodle8.mods.miccore.Annotations.NetworkedField;
 import net.minecraft.inventory.ISidedInventory;
@@ -20,6 +21,7 @@ import net.minecraftforge.fml.relauncher.Side;
 
 public class TileEntityCargoLoader extends TileBaseElectricBlockWithInventory implements ISidedInventory, ILandingPadAttachable
 {
+    public static final int ITEMS_PER_LOAD = 64;
     private ItemStack[] containingItems = new ItemStack[15];
     public boolean outOfItems;
     @NetworkedField(targetSide = Side.CLIENT)
@@ -65,7 +67,7 @@ public class TileEntityCargoLoader extends TileBaseElectricBlockWithInventory im
 
                     if (this.ticks % 15 == 0 && state == EnumCargoLoadingState.SUCCESS && !this.disabled && this.hasEnoughEnergyToRun)
                     {
-                        this.attachedFuelable.addCargo(this.removeCargo(true).resultStack, true);
+                        CargoTransfer.transfer(this, 1, this.containingItems.length, this.attachedFuelable, TileEntityCargoLoader.ITEMS_PER_LOAD);
                     }
                 }
                 else
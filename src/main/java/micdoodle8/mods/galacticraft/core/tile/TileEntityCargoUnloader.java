@@ -8,6 +8,7 @@ import micdoodle8.mods.galacticraft.api.vector.BlockVec3;
 import micdoodle8.mods.galacticraft.core.blocks.BlockCargoLoader;
 import micdoodle8.mods.galacticraft.core.energy.item.ItemElectricBase;
 import micdoodle8.mods.galacticraft.core.energy.tile.TileBaseElectricBlockWithInventory;
+import micdoodle8.mods.galacticraft.core.util.CargoTransfer;
 import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
 import micdoodle8.mods.miccore.Annotations.NetworkedField;
 import net.minecraft.inventory.ISidedInventory;
@@ -64,7 +65,7 @@ public class TileEntityCargoUnloader extends TileBaseElectricBlockWithInventory
 
                     if (this.ticks % 15 == 0 && state == EnumCargoLoadingState.SUCCESS && !this.disabled && this.hasEnoughEnergyToRun)
                     {
-                        this.addCargo(this.attachedFuelable.removeCargo(true).resultStack, true);
+                        CargoTransfer.transfer(this.attachedFuelable, this, 1, this.containingItems.length, TileEntityCargoLoader.ITEMS_PER_LOAD);
                     }
                 }
                 else
@@ -39,6 +39,11 @@ public class TileEntityCircuitFabricator extends TileBaseElectricBlockWithInvent
     @Override
     public void update()
     {
+        if (this.sleepTick())
+        {
+            return;
+        }
+
         super.update();
 
         this.updateInput();
@@ -85,6 +90,12 @@ public class TileEntityCircuitFabricator extends TileBaseElectricBlockWithInvent
         this.ticks++;
     }
 
+    @Override
+    protected boolean isIdle()
+    {
+        return this.processTicks == 0 && !this.canCompress();
+    }
+
     public void updateInput()
     {
         this.producingStack = CircuitFabricatorRecipes.getOutputForInput(Arrays.copyOfRange(this.containingItems, 1, 6));
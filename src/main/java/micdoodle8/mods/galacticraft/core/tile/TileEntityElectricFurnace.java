@@ -75,6 +75,11 @@ public class TileEntityElectricFurnace extends TileBaseElectricBlockWithInventor
     @Override
     public void update()
     {
+        if (this.sleepTick())
+        {
+            return;
+        }
+
         if (!this.initialised)
         {
             int metadata = this.getBlockMetadata();
@@ -134,6 +139,12 @@ public class TileEntityElectricFurnace extends TileBaseElectricBlockWithInventor
         }
     }
 
+    @Override
+    protected boolean isIdle()
+    {
+        return this.processTicks == 0 && !this.canProcess();
+    }
+
     /**
      * @return Is this machine able to process its specific task?
      */
@@ -43,6 +43,11 @@ public class TileEntityRefinery extends TileBaseElectricBlockWithInventory imple
     @Override
     public void update()
     {
+        if (this.sleepTick())
+        {
+            return;
+        }
+
         super.update();
 
         if (!this.worldObj.isRemote)
@@ -135,6 +140,12 @@ public class TileEntityRefinery extends TileBaseElectricBlockWithInventory imple
         return this.fuelTank.getFluidAmount() * i / this.fuelTank.getCapacity();
     }
 
+    @Override
+    protected boolean isIdle()
+    {
+        return this.processTicks == 0 && this.containingItems[1] == null && this.containingItems[2] == null && !this.canProcess();
+    }
+
     public boolean canProcess()
     {
         if (this.oilTank.getFluidAmount() <= 0)
@@ -328,7 +339,14 @@ public class TileEntityRefinery extends TileBaseElectricBlockWithInventory imple
         if (from.equals(getFront()))
 //        if (from.equals(EnumFacing.getFront((this.getBlockMetadata() + 2) ^ 1)))
         {
-            return this.fuelTank.drain(resource.amount, doDrain);
+            FluidStack drained = this.fuelTank.drain(resource.amount, doDrain);
+
+            if (doDrain && drained != null && drained.amount > 0)
+            {
+                this.wakeUp();
+            }
+
+            return drained;
         }
 
         return null;
@@ -385,6 +403,11 @@ public class TileEntityRefinery extends TileBaseElectricBlockWithInventory imple
 //            }
         }
 
+        if (doFill && used > 0)
+        {
+            this.wakeUp();
+        }
+
         return used;
     }
 
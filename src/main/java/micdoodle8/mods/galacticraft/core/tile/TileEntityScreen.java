@@ -8,17 +8,22 @@ import micdoodle8.mods.galacticraft.core.client.gui.screen.DrawGameScreen;
 import micdoodle8.mods.galacticraft.core.network.PacketSimple;
 import micdoodle8.mods.galacticraft.core.network.PacketSimple.EnumSimplePacket;
 import micdoodle8.mods.galacticraft.core.tick.TickHandlerClient;
+import micdoodle8.mods.galacticraft.core.tick.TickHandlerServer;
 import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.server.management.PlayerManager;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.BlockPos;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.*;
 
 public class TileEntityScreen extends TileEntityAdvanced
 {
@@ -73,26 +78,82 @@ public class TileEntityScreen extends TileEntityAdvanced
         }
     }
 
+    /**
+     * Server side: schedule this screen's wall to be sent to the clients at the end of the tick.
+     * However many of a wall's screens change in a tick, the wall is sent once.
+     */
     public void updateClients()
     {
-        int connectedFlags = 0;
-        if (this.connectedUp)
-        {
-            connectedFlags += 8;
-        }
-        if (this.connectedDown)
-        {
-            connectedFlags += 4;
-        }
-        if (this.connectedLeft)
+        TickHandlerServer.scheduleScreenUpdate(this);
+    }
+
+    /**
+     * Send the walls (multiscreens, or single screens) containing these screens to the players
+     * who have them loaded, one packet per wall.
+     */
+    public static void updateWalls(WorldServer world, Collection<TileEntityScreen> screens)
+    {
+        PlayerManager playerManager = world.getPlayerManager();
+        Set<BlockPos> sent = new HashSet<BlockPos>();
+
+        for (TileEntityScreen screen : screens)
         {
-            connectedFlags += 2;
+            if (screen.isInvalid() || screen.getWorld() != world)
+            {
+                continue;
+            }
+
+            //The top left screen of the wall
+            EnumFacing side = screen.getFront().rotateY();
+            BlockPos origin = screen.getPos().offset(side, -screen.connectionsLeft).up(screen.connectionsUp);
+            if (!sent.add(origin))
+            {
+                continue;
+            }
+
+            int width = screen.connectionsLeft + screen.connectionsRight + 1;
+            int height = screen.connectionsUp + screen.connectionsDown + 1;
+            //A wall is at most 9 wide so it can only reach into one other chunk, the one at its far end
+            BlockPos end = origin.offset(side, width - 1);
+            PacketSimple packet = new PacketSimple(EnumSimplePacket.C_UPDATE_VIEWSCREEN_WALL, GCCoreUtil.getDimensionID(world), new Object[] { origin, screen.imageType, width, height });
+
+            for (EntityPlayer player : world.playerEntities)
+            {
+                if (player instanceof EntityPlayerMP && (playerManager.isPlayerWatchingChunk((EntityPlayerMP) player, origin.getX() >> 4, origin.getZ() >> 4) || playerManager.isPlayerWatchingChunk((EntityPlayerMP) player, end.getX() >> 4, end.getZ() >> 4)))
+                {
+                    GalacticraftCore.packetPipeline.sendTo(packet, (EntityPlayerMP) player);
+                }
+            }
         }
-        if (this.connectedRight)
+    }
+
+    /**
+     * Client side: set the connections of the screens in the wall with this screen at its top left,
+     * as sent by the server, and rebuild them next tick.
+     */
+    @SideOnly(Side.CLIENT)
+    public void updateWall(int imageType, int width, int height)
+    {
+        EnumFacing side = this.getFront().rotateY();
+        int meta = this.getBlockMetadata();
+
+        for (int x = 0; x < width; x++)
         {
-            connectedFlags += 1;
+            for (int z = 0; z < height; z++)
+            {
+                TileEntity tile = this.worldObj.getTileEntity(this.getPos().offset(side, x).down(z));
+                if (tile instanceof TileEntityScreen && tile.getBlockMetadata() == meta)
+                {
+                    TileEntityScreen screenTile = (TileEntityScreen) tile;
+                    screenTile.imageType = imageType;
+                    screenTile.connectedUp = z > 0;
+                    screenTile.connectedDown = z < height - 1;
+                    screenTile.connectedLeft = x > 0;
+                    screenTile.connectedRight = x < width - 1;
+                    screenTile.refreshNextTick(true);
+                }
+            }
         }
-        GalacticraftCore.packetPipeline.sendToDimension(new PacketSimple(EnumSimplePacket.C_UPDATE_VIEWSCREEN, GCCoreUtil.getDimensionID(this.worldObj), new Object[] { this.getPos(), this.imageType, connectedFlags }), GCCoreUtil.getDimensionID(this.worldObj));
     }
 
     public EnumFacing getFront()
@@ -734,6 +795,13 @@ public class TileEntityScreen extends TileEntityAdvanced
             return this.checkWholeScreen(barrierUp, barrierDown, barrierLeft, barrierRight);
         }
 
+        //If the tiles already make up exactly this screen there is nothing to change or send
+        //(this is the usual case when a neighbouring block changes)
+        if (!this.worldObj.isRemote && this.isScreenFormed(screenList, up, down, left, right))
+        {
+            return true;
+        }
+
         DrawGameScreen newScreen = null;
         boolean serverside = true;
         TileEntity bottomLeft = vec.clone().modifyPositionFromSide(side, -left).modifyPositionFromSide(EnumFacing.DOWN, down).getTileEntity(this.worldObj);
@@ -783,6 +851,36 @@ public class TileEntityScreen extends TileEntityAdvanced
         return true;
     }
 
+    /**
+     * Whether the tiles (in the same order as in checkWholeScreen) are already set up as the
+     * multi-screen with these edges, showing this screen's image type
+     */
+    private boolean isScreenFormed(List<TileEntityScreen> screenList, int up, int down, int left, int right)
+    {
+        Iterator<TileEntityScreen> it = screenList.iterator();
+        for (int x = -left; x <= right; x++)
+        {
+            for (int z = -up; z <= down; z++)
+            {
+                TileEntityScreen screenTile = it.next();
+                if (!screenTile.isMultiscreen || screenTile.imageType != this.imageType)
+                {
+                    return false;
+                }
+                if (screenTile.connectionsLeft != x + left || screenTile.connectionsRight != right - x || screenTile.connectionsUp != z + up || screenTile.connectionsDown != down - z)
+                {
+                    return false;
+                }
+                if (screenTile.connectedLeft != (x + left > 0) || screenTile.connectedRight != (right - x > 0) || screenTile.connectedUp != (z + up > 0) || screenTile.connectedDown != (down - z > 0))
+                {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
     /**
      * Reset the screen to a 1x1 size, not part of a 'multi-screen'
      */
@@ -26,11 +26,10 @@ import net.minecraft.util.BlockPos;
 import net.minecraft.util.ITickable;
 import net.minecraft.util.MathHelper;
 import net.minecraft.world.WorldProvider;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.fml.common.network.NetworkRegistry.TargetPoint;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 public class TileEntityTelemetry extends TileEntity implements ITickable
 {
@@ -39,31 +38,52 @@ public class TileEntityTelemetry extends TileEntity implements ITickable
     public String clientName;
     public GameProfile clientGameProfile = null;
 
-    public static HashSet<BlockVec3Dim> loadedList = new HashSet<BlockVec3Dim>();
+    //The loaded Telemetry Units in each dimension, separately for the client and the server (which share statics in single player)
+    private static final Map<Integer, Set<BlockVec3>> loadedList = new HashMap<Integer, Set<BlockVec3>>();
+    private static final Map<Integer, Set<BlockVec3>> loadedListServer = new HashMap<Integer, Set<BlockVec3>>();
+    //Full updates (including the names) are sent at least this often, for players who have just come into range
+    private static final int FULL_UPDATE_INTERVAL = 100;
+
     public Entity linkedEntity;
     private UUID toUpdate = null;
     private int pulseRate = 400;
     private int lastHurttime = 0;
     private int ticks = 0;
+    private String lastName;
+    private String lastUUID;
+    private int[] lastData;
 
     @Override
     public void validate()
     {
         super.validate();
-        if (this.worldObj.isRemote)
-        {
-            loadedList.add(new BlockVec3Dim(this));
-        }
+        TileEntityTelemetry.getLoadedList(this.worldObj.isRemote, GCCoreUtil.getDimensionID(this.worldObj)).add(new BlockVec3(this));
     }
 
     @Override
     public void invalidate()
     {
         super.invalidate();
-        if (this.worldObj.isRemote)
+        TileEntityTelemetry.getLoadedList(this.worldObj.isRemote, GCCoreUtil.getDimensionID(this.worldObj)).remove(new BlockVec3(this));
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        TileEntityTelemetry.getLoadedList(this.worldObj.isRemote, GCCoreUtil.getDimensionID(this.worldObj)).remove(new BlockVec3(this));
+    }
+
+    private static Set<BlockVec3> getLoadedList(boolean client, int dim)
+    {
+        Map<Integer, Set<BlockVec3>> map = client ? TileEntityTelemetry.loadedList : TileEntityTelemetry.loadedListServer;
+        Set<BlockVec3> set = map.get(dim);
+        if (set == null)
         {
-            loadedList.remove(new BlockVec3Dim(this));
+            set = new HashSet<BlockVec3>();
+            map.put(dim, set);
         }
+        return set;
     }
 
     @Override
@@ -71,10 +91,10 @@ public class TileEntityTelemetry extends TileEntity implements ITickable
     {
         if (!this.worldObj.isRemote && ++this.ticks % 2 == 0)
         {
+            //Keep looking for the linked entity until it is loaded
             if (this.toUpdate != null)
             {
                 this.addTrackedEntity(this.toUpdate);
-                this.toUpdate = null;
             }
 
             String name;
@@ -199,7 +219,21 @@ public class TileEntityTelemetry extends TileEntity implements ITickable
             {
                 name = "";
             }
-            GalacticraftCore.packetPipeline.sendToAllAround(new PacketSimple(EnumSimplePacket.C_UPDATE_TELEMETRY, GCCoreUtil.getDimensionID(this.worldObj), new Object[] { this.getPos(), name, data[0], data[1], data[2], data[3], data[4], strUUID }), new TargetPoint(GCCoreUtil.getDimensionID(this.worldObj), this.getPos().getX(), this.getPos().getY(), this.getPos().getZ(), 320D));
+
+            TargetPoint target = new TargetPoint(GCCoreUtil.getDimensionID(this.worldObj), this.getPos().getX(), this.getPos().getY(), this.getPos().getZ(), 320D);
+            if (!name.equals(this.lastName) || !strUUID.equals(this.lastUUID) || this.ticks % TileEntityTelemetry.FULL_UPDATE_INTERVAL == 0)
+            {
+                GalacticraftCore.packetPipeline.sendToAllAround(new PacketSimple(EnumSimplePacket.C_UPDATE_TELEMETRY, GCCoreUtil.getDimensionID(this.worldObj), new Object[] { this.getPos(), name, data[0], data[1], data[2], data[3], data[4], strUUID }), target);
+            }
+            else if (!Arrays.equals(data, this.lastData))
+            {
+                //Only the readings changed: no need to send the names again
+                GalacticraftCore.packetPipeline.sendToAllAround(new PacketSimple(EnumSimplePacket.C_UPDATE_TELEMETRY_DATA, GCCoreUtil.getDimensionID(this.worldObj), new Object[] { this.getPos(), data[0], data[1], data[2], data[3], data[4] }), target);
+            }
+
+            this.lastName = name;
+            this.lastUUID = strUUID;
+            this.lastData = data;
         }
     }
 
@@ -223,25 +257,25 @@ public class TileEntityTelemetry extends TileEntity implements ITickable
         }
     }
 
+    /**
+     * Link to the entity with this UUID.  If it is not loaded in this world, keep
+     * trying until it is.
+     */
     public void addTrackedEntity(UUID uuid)
     {
-        this.pulseRate = 400;
-        this.lastHurttime = 0;
-        List<Entity> eList = this.worldObj.loadedEntityList;
-        for (Entity e : eList)
+        if (this.toUpdate == null || !this.toUpdate.equals(uuid))
         {
-            if (e.getUniqueID().equals(uuid))
-            {
-                this.linkedEntity = e;
-                if (e instanceof EntitySpaceshipBase)
-                {
-                    ((EntitySpaceshipBase) e).addTelemetry(this);
-                }
-                return;
-            }
+            this.pulseRate = 400;
+            this.lastHurttime = 0;
+        }
+        Entity e = this.worldObj instanceof WorldServer ? ((WorldServer) this.worldObj).getEntityFromUuid(uuid) : null;
+        if (e != null && !e.isDead && e.worldObj == this.worldObj)
+        {
+            this.addTrackedEntity(e);
+            return;
         }
-        //TODO Add some kind of watcher to add the entity when next loaded
         this.linkedEntity = null;
+        this.toUpdate = uuid;
     }
 
     public void addTrackedEntity(Entity e)
@@ -249,6 +283,7 @@ public class TileEntityTelemetry extends TileEntity implements ITickable
         this.pulseRate = 400;
         this.lastHurttime = 0;
         this.linkedEntity = e;
+        this.toUpdate = null;
         if (e instanceof EntitySpaceshipBase)
         {
             ((EntitySpaceshipBase) e).addTelemetry(this);
@@ -259,6 +294,7 @@ public class TileEntityTelemetry extends TileEntity implements ITickable
     {
         this.pulseRate = 400;
         this.linkedEntity = null;
+        this.toUpdate = null;
     }
 
     public static TileEntityTelemetry getNearest(TileEntity te)
@@ -270,14 +306,9 @@ public class TileEntityTelemetry extends TileEntity implements ITickable
         BlockVec3 target = new BlockVec3(te);
 
         int distSq = 1025;
-        BlockVec3Dim nearest = null;
-        int dim = GCCoreUtil.getDimensionID(te.getWorld());
-        for (BlockVec3Dim telemeter : loadedList)
+        BlockVec3 nearest = null;
+        for (BlockVec3 telemeter : TileEntityTelemetry.getLoadedList(te.getWorld().isRemote, GCCoreUtil.getDimensionID(te.getWorld())))
         {
-            if (telemeter.dim != dim)
-            {
-                continue;
-            }
             int dist = telemeter.distanceSquared(target);
             if (dist < distSq)
             {
@@ -344,14 +375,17 @@ public class TileEntityTelemetry extends TileEntity implements ITickable
 
     public static void updateLinkedPlayer(EntityPlayerMP playerOld, EntityPlayerMP playerNew)
     {
-        for (BlockVec3Dim telemeter : loadedList)
+        for (Map.Entry<Integer, Set<BlockVec3>> entry : TileEntityTelemetry.loadedListServer.entrySet())
         {
-			TileEntity te = telemeter.getTileEntityNoLoad();
-            if (te instanceof TileEntityTelemetry)
+            for (BlockVec3 telemeter : entry.getValue())
             {
-                if (((TileEntityTelemetry) te).linkedEntity == playerOld)
+                TileEntity te = new BlockVec3Dim(telemeter.x, telemeter.y, telemeter.z, entry.getKey()).getTileEntityNoLoad();
+                if (te instanceof TileEntityTelemetry)
                 {
-                    ((TileEntityTelemetry) te).linkedEntity = playerNew;
+                    if (((TileEntityTelemetry) te).linkedEntity == playerOld)
+                    {
+                        ((TileEntityTelemetry) te).linkedEntity = playerNew;
+                    }
                 }
             }
         }
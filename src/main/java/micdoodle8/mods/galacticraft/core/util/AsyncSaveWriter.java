@@ -0,0 +1,177 @@
+package micdoodle8.mods.galacticraft.core.util;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Writes Galacticraft's save files on a background thread.
+ *
+ * The caller takes a snapshot of the data on the server thread; serializing, compressing and
+ * writing it happen on the writer thread.  Each file is written to a temporary file first and then
+ * renamed over the old one, so a crash mid-write can never leave a half-written file.  Files whose
+ * contents have not changed since the last write are skipped.
+ *
+ * {@link AsyncWorldSavedData} is saved along with the overworld instead of by the vanilla
+ * MapStorage, when it has been marked dirty.
+ */
+public class AsyncSaveWriter
+{
+    public interface ISaveWriter
+    {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable ->
+    {
+        Thread thread = new Thread(runnable, "Galacticraft save writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    //Latest snapshot waiting to be written for each file: a newer snapshot replaces an older one not yet written
+    private static final Map<File, ISaveWriter> pending = new ConcurrentHashMap<File, ISaveWriter>();
+    //Contents of each file as last written, compared byte for byte to skip unchanged files
+    private static final Map<File, byte[]> lastWritten = new ConcurrentHashMap<File, byte[]>();
+    private static final Map<String, AsyncWorldSavedData> savedData = new LinkedHashMap<String, AsyncWorldSavedData>();
+
+    /**
+     * Queue a file to be written in the background.  The writer must only use data which will not be
+     * changed by the server thread afterwards (a snapshot).
+     */
+    public static void write(final File file, ISaveWriter writer)
+    {
+        if (AsyncSaveWriter.pending.put(file, writer) == null)
+        {
+            AsyncSaveWriter.executor.execute(() -> AsyncSaveWriter.writeNow(file));
+        }
+    }
+
+    private static void writeNow(File file)
+    {
+        ISaveWriter writer = AsyncSaveWriter.pending.remove(file);
+
+        if (writer == null)
+        {
+            return;
+        }
+
+        try
+        {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+            DataOutputStream dataStream = new DataOutputStream(bytes);
+            writer.write(dataStream);
+            dataStream.close();
+            byte[] data = bytes.toByteArray();
+
+            byte[] previous = AsyncSaveWriter.lastWritten.get(file);
+
+            if (previous != null && Arrays.equals(previous, data) && file.exists())
+            {
+                return;
+            }
+
+            File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
+            FileOutputStream fos = new FileOutputStream(tempFile);
+            try
+            {
+                fos.write(data);
+                fos.getFD().sync();
+            }
+            finally
+            {
+                fos.close();
+            }
+
+            try
+            {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException e)
+            {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            AsyncSaveWriter.lastWritten.put(file, data);
+        }
+        catch (Exception e)
+        {
+            GCLog.severe("Could not save Galacticraft data file: " + file.getAbsolutePath());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Register a WorldSavedData to be saved in the background along with the overworld.
+     * Data created on the client is ignored.
+     */
+    public static void register(AsyncWorldSavedData data)
+    {
+        if (FMLCommonHandler.instance().getEffectiveSide().isServer())
+        {
+            AsyncSaveWriter.savedData.put(data.mapName, data);
+        }
+    }
+
+    /**
+     * Snapshot the registered WorldSavedData which has been marked dirty, and queue it for writing.
+     * Call on the server thread when the overworld saves.
+     */
+    public static void saveWorldData(World world)
+    {
+        for (AsyncWorldSavedData data : AsyncSaveWriter.savedData.values())
+        {
+            if (!data.isPendingSave())
+            {
+                continue;
+            }
+
+            File file = world.getSaveHandler().getMapFileFromName(data.mapName);
+
+            if (file != null)
+            {
+                //Same layout as vanilla MapStorage; copied so that the server thread can keep changing the live data
+                NBTTagCompound nbt = new NBTTagCompound();
+                data.writeToNBT(nbt);
+                final NBTTagCompound root = new NBTTagCompound();
+                root.setTag("data", nbt.copy());
+                AsyncSaveWriter.write(file, out -> CompressedStreamTools.writeCompressed(root, out));
+                data.setDirty(false);
+            }
+        }
+    }
+
+    /**
+     * Wait for all queued writes to finish - for example when the server stops.
+     */
+    public static void flush()
+    {
+        try
+        {
+            AsyncSaveWriter.executor.submit(() -> {}).get();
+        }
+        catch (Exception e)
+        {
+            GCLog.severe("Interrupted while waiting for Galacticraft data to save");
+            e.printStackTrace();
+        }
+    }
+
+    public static void reset()
+    {
+        AsyncSaveWriter.savedData.clear();
+        AsyncSaveWriter.lastWritten.clear();
+    }
+}
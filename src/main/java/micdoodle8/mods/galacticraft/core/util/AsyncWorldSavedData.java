@@ -0,0 +1,41 @@
+package micdoodle8.mods.galacticraft.core.util;
+
+import net.minecraft.world.WorldSavedData;
+
+/**
+ * WorldSavedData which is saved in the background by {@link AsyncSaveWriter} along with the
+ * overworld, instead of by the vanilla MapStorage.
+ *
+ * As with vanilla, it is only saved after markDirty() or setDirty(true).  isDirty() always returns
+ * false so that MapStorage does not also write the file.
+ */
+public abstract class AsyncWorldSavedData extends WorldSavedData
+{
+    private boolean pendingSave;
+
+    public AsyncWorldSavedData(String name)
+    {
+        super(name);
+        AsyncSaveWriter.register(this);
+    }
+
+    @Override
+    public void setDirty(boolean dirty)
+    {
+        this.pendingSave = dirty;
+    }
+
+    @Override
+    public boolean isDirty()
+    {
+        return false;
+    }
+
+    /**
+     * @return True if this has changed since it was last queued for saving
+     */
+    public boolean isPendingSave()
+    {
+        return this.pendingSave;
+    }
+}
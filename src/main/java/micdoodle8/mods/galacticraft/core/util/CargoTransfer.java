@@ -0,0 +1,338 @@
+package micdoodle8.mods.galacticraft.core.util;
+
+import micdoodle8.mods.galacticraft.api.entity.ICargoEntity;
+import micdoodle8.mods.galacticraft.api.entity.ICargoEntity.EnumCargoLoadingState;
+import micdoodle8.mods.galacticraft.api.entity.ICargoEntity.RemovalResult;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves many stacks of cargo between inventories in one go.
+ *
+ * The target slots are indexed by item type once, so merging each stack only looks at the slots
+ * which already hold that item (and then the next empty slot), instead of scanning the whole target
+ * inventory again for every stack.  Each method returns the number of items moved.
+ */
+public class CargoTransfer
+{
+    private final ItemStack[] slots;
+    private final int stackLimit;
+    private final Map<Item, List<Integer>> partSlots = new HashMap<Item, List<Integer>>();
+    private final int[] emptySlots;
+    private int emptyCount;
+    private int emptyNext;
+    private final boolean[] filled;
+
+    private CargoTransfer(ItemStack[] slots, int start, int end, int stackLimit)
+    {
+        this.slots = slots;
+        this.stackLimit = stackLimit;
+        this.emptySlots = new int[end - start];
+        this.filled = new boolean[slots.length];
+
+        for (int i = start; i < end; i++)
+        {
+            ItemStack stack = slots[i];
+
+            if (stack == null || stack.stackSize <= 0)
+            {
+                slots[i] = null;
+                this.emptySlots[this.emptyCount++] = i;
+            }
+            else if (stack.stackSize < this.getLimit(stack))
+            {
+                this.getPartSlots(stack.getItem()).add(i);
+            }
+        }
+    }
+
+    private int getLimit(ItemStack stack)
+    {
+        return Math.min(stack.getMaxStackSize(), this.stackLimit);
+    }
+
+    private List<Integer> getPartSlots(Item item)
+    {
+        List<Integer> list = this.partSlots.get(item);
+
+        if (list == null)
+        {
+            list = new ArrayList<Integer>(2);
+            this.partSlots.put(item, list);
+        }
+
+        return list;
+    }
+
+    private static boolean canMerge(ItemStack a, ItemStack b)
+    {
+        return a.getItem() == b.getItem() && a.getItemDamage() == b.getItemDamage() && ItemStack.areItemStackTagsEqual(a, b);
+    }
+
+    /**
+     * @return How many of the stack would fit, up to max
+     */
+    private int space(ItemStack stack, int max)
+    {
+        int space = 0;
+        List<Integer> list = this.partSlots.get(stack.getItem());
+
+        if (list != null)
+        {
+            for (int slot : list)
+            {
+                ItemStack existing = this.slots[slot];
+                if (CargoTransfer.canMerge(existing, stack))
+                {
+                    space += this.getLimit(existing) - existing.stackSize;
+                    if (space >= max)
+                    {
+                        return max;
+                    }
+                }
+            }
+        }
+
+        return Math.min(max, space + (this.emptyCount - this.emptyNext) * this.getLimit(stack));
+    }
+
+    /**
+     * Merge up to max items of the stack into the slots: the stack's size is reduced by the amount moved.
+     */
+    private int add(ItemStack stack, int max)
+    {
+        int toMove = Math.min(stack.stackSize, max);
+        int moved = 0;
+        List<Integer> list = this.partSlots.get(stack.getItem());
+
+        if (list != null)
+        {
+            for (int j = 0; j < list.size() && moved < toMove; j++)
+            {
+                ItemStack existing = this.slots[list.get(j)];
+
+                if (CargoTransfer.canMerge(existing, stack))
+                {
+                    int amount = Math.min(toMove - moved, this.getLimit(existing) - existing.stackSize);
+                    existing.stackSize += amount;
+                    moved += amount;
+
+                    if (existing.stackSize >= this.getLimit(existing))
+                    {
+                        list.remove(j--);
+                    }
+                }
+            }
+        }
+
+        while (moved < toMove && this.emptyNext < this.emptyCount)
+        {
+            int slot = this.emptySlots[this.emptyNext++];
+            ItemStack newStack = stack.copy();
+            newStack.stackSize = Math.min(toMove - moved, this.getLimit(stack));
+            this.slots[slot] = newStack;
+            this.filled[slot] = true;
+            moved += newStack.stackSize;
+
+            if (newStack.stackSize < this.getLimit(newStack))
+            {
+                this.getPartSlots(newStack.getItem()).add(slot);
+            }
+        }
+
+        stack.stackSize -= moved;
+        return moved;
+    }
+
+    /**
+     * Move as many items as will fit (up to maxItems) from the slots fromStart to fromEnd - 1 of one
+     * array into the slots toStart to toEnd - 1 of another.  Emptied source slots are set to null.
+     */
+    public static int transfer(ItemStack[] from, int fromStart, int fromEnd, ItemStack[] to, int toStart, int toEnd, int stackLimit, int maxItems)
+    {
+        return CargoTransfer.transfer(from, fromStart, fromEnd, new CargoTransfer(to, toStart, toEnd, stackLimit), maxItems);
+    }
+
+    private static int transfer(ItemStack[] from, int fromStart, int fromEnd, CargoTransfer target, int maxItems)
+    {
+        int moved = 0;
+
+        for (int i = fromStart; i < fromEnd && moved < maxItems; i++)
+        {
+            ItemStack stack = from[i];
+
+            if (stack == null)
+            {
+                continue;
+            }
+
+            if (stack.stackSize > 0)
+            {
+                moved += target.add(stack, maxItems - moved);
+            }
+
+            if (stack.stackSize <= 0)
+            {
+                from[i] = null;
+            }
+        }
+
+        return moved;
+    }
+
+    /**
+     * Move as many items as will fit (up to maxItems) between two inventories, in the given slot
+     * ranges.  Each inventory is marked dirty once if anything moved.
+     */
+    public static int transfer(IInventory from, int fromStart, int fromEnd, IInventory to, int toStart, int toEnd, int maxItems)
+    {
+        ItemStack[] fromSlots = CargoTransfer.getSlots(from, fromStart, fromEnd);
+        ItemStack[] toSlots = CargoTransfer.getSlots(to, toStart, toEnd);
+        CargoTransfer target = new CargoTransfer(toSlots, toStart, toEnd, to.getInventoryStackLimit());
+        int moved = CargoTransfer.transfer(fromSlots, fromStart, fromEnd, target, maxItems);
+
+        if (moved > 0)
+        {
+            for (int i = fromStart; i < fromEnd; i++)
+            {
+                if (fromSlots[i] == null && from.getStackInSlot(i) != null)
+                {
+                    from.setInventorySlotContents(i, null);
+                }
+            }
+
+            for (int i = toStart; i < toEnd; i++)
+            {
+                if (target.filled[i])
+                {
+                    to.setInventorySlotContents(i, toSlots[i]);
+                }
+            }
+
+            from.markDirty();
+            to.markDirty();
+        }
+
+        return moved;
+    }
+
+    private static ItemStack[] getSlots(IInventory inventory, int start, int end)
+    {
+        ItemStack[] slots = new ItemStack[end];
+
+        for (int i = start; i < end; i++)
+        {
+            slots[i] = inventory.getStackInSlot(i);
+        }
+
+        return slots;
+    }
+
+    /**
+     * Load items from an inventory into a cargo entity such as a docked rocket, up to maxItems,
+     * stopping at the first item which does not fit.
+     *
+     * Items are added one at a time and never tested first with addCargo(stack, false): a rocket
+     * set to launch when its cargo is full launches on any FULL result, even from a test, so a
+     * larger stack which did not fit would launch a rocket which still had room.
+     */
+    public static int transfer(IInventory from, int fromStart, int fromEnd, ICargoEntity to, int maxItems)
+    {
+        int moved = 0;
+        boolean full = false;
+
+        for (int i = fromStart; i < fromEnd && moved < maxItems && !full; i++)
+        {
+            ItemStack stack = from.getStackInSlot(i);
+
+            if (stack == null)
+            {
+                continue;
+            }
+
+            while (stack.stackSize > 0 && moved < maxItems)
+            {
+                ItemStack single = stack.copy();
+                single.stackSize = 1;
+
+                if (to.addCargo(single, true) != EnumCargoLoadingState.SUCCESS)
+                {
+                    full = true;
+                    break;
+                }
+
+                stack.stackSize--;
+                moved++;
+            }
+
+            if (stack.stackSize <= 0)
+            {
+                from.setInventorySlotContents(i, null);
+            }
+        }
+
+        if (moved > 0)
+        {
+            from.markDirty();
+        }
+
+        return moved;
+    }
+
+    /**
+     * Unload up to maxItems from a cargo entity such as a docked rocket into an inventory.  If
+     * the cargo entity gives more than one item at a time, any which do not fit are put back.
+     */
+    public static int transfer(ICargoEntity from, IInventory to, int toStart, int toEnd, int maxItems)
+    {
+        ItemStack[] toSlots = CargoTransfer.getSlots(to, toStart, toEnd);
+        CargoTransfer target = new CargoTransfer(toSlots, toStart, toEnd, to.getInventoryStackLimit());
+        int moved = 0;
+
+        while (moved < maxItems)
+        {
+            RemovalResult result = from.removeCargo(false);
+
+            if (result.resultStack == null || target.space(result.resultStack, 1) < 1)
+            {
+                break;
+            }
+
+            ItemStack stack = from.removeCargo(true).resultStack;
+
+            if (stack == null)
+            {
+                break;
+            }
+
+            moved += target.add(stack, stack.stackSize);
+
+            if (stack.stackSize > 0)
+            {
+                from.addCargo(stack, true);
+                break;
+            }
+        }
+
+        if (moved > 0)
+        {
+            for (int i = toStart; i < toEnd; i++)
+            {
+                if (target.filled[i])
+                {
+                    to.setInventorySlotContents(i, toSlots[i]);
+                }
+            }
+
+            to.markDirty();
+        }
+
+        return moved;
+    }
+}
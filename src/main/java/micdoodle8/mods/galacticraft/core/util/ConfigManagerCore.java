@@ -109,6 +109,7 @@ public class ConfigManagerCore
     public static int[] externalOilGen;
     public static double oilGenFactor;
     public static boolean retrogenOil;
+    public static int retrogenOilPerTick;
     public static String[] oregenIDs = {};
     public static boolean enableOtherModsFeatures;
     public static boolean whitelistCoFHCoreGen;
@@ -312,6 +313,16 @@ public class ConfigManagerCore
             retrogenOil = prop.getBoolean(false);
             propOrder.add(prop.getName());
 
+            prop = config.get(Constants.CONFIG_CATEGORY_GENERAL, "Retro Gen of GC Oil chunks per tick", 4);
+            prop.comment = "If retro gen of oil is enabled, how many newly loaded chunks to check each tick (each chunk is only checked once). Allowed range 1-100.";
+            prop.setLanguageKey("gc.configgui.retrogenOilPerTick");
+            retrogenOilPerTick = prop.getInt(4);
+            if (retrogenOilPerTick < 1 || retrogenOilPerTick > 100)
+            {
+                retrogenOilPerTick = 4;
+            }
+            propOrder.add(prop.getName());
+
             prop = config.get(Constants.CONFIG_CATEGORY_GENERAL, "Enable Copper Ore Gen", true);
             prop.comment = "If this is enabled, copper ore will generate on the overworld.";
             prop.setLanguageKey("gc.configgui.enableCopperOreGen").setRequiresMcRestart(true);
@@ -0,0 +1,309 @@
+package micdoodle8.mods.galacticraft.core.util;
+
+import net.minecraft.tileentity.TileEntity;
+
+import java.util.*;
+
+/**
+ * Times the parts of the server tick run by Galacticraft, when switched on with /gcprofile.
+ *
+ * Each timed part of the code is wrapped like this:
+ *
+ *     long profileStart = GCProfiler.start();
+ *     ...
+ *     GCProfiler.end(GCProfiler.Section.SPACE_RACE, GCProfiler.ALL_DIMENSIONS, profileStart);
+ *
+ * While switched off start() returns 0 without reading the clock and end() returns straight away,
+ * so the cost is a static field read at each end.
+ *
+ * Times are totalled per dimension and section, and optionally per subject (a tile position or a
+ * player name, with a network known by its first transmitter's position) so the most expensive
+ * ones can be listed.  The Galacticraft time in each
+ * dimension's last {@link #WINDOW} ticks is kept, for a histogram of tick times.
+ */
+public class GCProfiler
+{
+    public static final int ALL_DIMENSIONS = Integer.MIN_VALUE;
+    public static final int WINDOW = 1200;
+    //Subjects beyond this many are not tracked individually (their time is still counted in the section)
+    private static final int MAX_SUBJECTS = 4096;
+    //Upper bounds of the histogram buckets, in microseconds
+    public static final int[] BUCKETS = { 50, 100, 250, 500, 1000, 2500, 5000, 10000, Integer.MAX_VALUE };
+
+    public static enum Section
+    {
+        SCHEDULED_BLOCKS,
+        FOOTPRINTS,
+        PACKETS,
+        SEALER_CHECKS,
+        OIL_RETROGEN,
+        TRANSMITTER_UPDATES,
+        ENERGY_NETWORKS,
+        FLUID_NETWORKS,
+        SPACE_RACE,
+        SPIN,
+        PLAYER_UPDATE,
+        METEORS
+    }
+
+    private static boolean enabled;
+    private static long enabledTicks;
+    private static final Map<Integer, DimensionStats> dimensions = new HashMap<Integer, DimensionStats>();
+    private static int subjectCount;
+
+    public static class DimensionStats
+    {
+        public final int dimension;
+        private final long[] sectionNanos = new long[Section.values().length];
+        private final long[] sectionCalls = new long[Section.values().length];
+        private final long[] tickNanos = new long[GCProfiler.WINDOW];
+        private final Map<Object, SubjectStats> subjects = new HashMap<Object, SubjectStats>();
+        private int tickIndex;
+        private int tickCount;
+        private long thisTick;
+
+        private DimensionStats(int dimension)
+        {
+            this.dimension = dimension;
+        }
+
+        public long getNanos(Section section)
+        {
+            return this.sectionNanos[section.ordinal()];
+        }
+
+        public long getCalls(Section section)
+        {
+            return this.sectionCalls[section.ordinal()];
+        }
+
+        public long getTotalNanos()
+        {
+            long total = 0L;
+            for (long nanos : this.sectionNanos)
+            {
+                total += nanos;
+            }
+            return total;
+        }
+
+        /**
+         * @return For each of the {@link #BUCKETS}, how many of the recent ticks took up to that long
+         */
+        public int[] getHistogram()
+        {
+            int[] histogram = new int[GCProfiler.BUCKETS.length];
+
+            for (int i = 0; i < this.tickCount; i++)
+            {
+                long micros = this.tickNanos[i] / 1000L;
+                int bucket = 0;
+                while (micros > GCProfiler.BUCKETS[bucket])
+                {
+                    bucket++;
+                }
+                histogram[bucket]++;
+            }
+
+            return histogram;
+        }
+
+        public int getRecentTicks()
+        {
+            return this.tickCount;
+        }
+    }
+
+    public static class SubjectStats
+    {
+        public final Object subject;
+        public final Section section;
+        public final int dimension;
+        private long nanos;
+        private long calls;
+
+        private SubjectStats(Object subject, Section section, int dimension)
+        {
+            this.subject = subject;
+            this.section = section;
+            this.dimension = dimension;
+        }
+
+        public long getNanos()
+        {
+            return this.nanos;
+        }
+
+        public long getCalls()
+        {
+            return this.calls;
+        }
+    }
+
+    public static boolean isEnabled()
+    {
+        return GCProfiler.enabled;
+    }
+
+    public static void setEnabled(boolean enabled)
+    {
+        GCProfiler.enabled = enabled;
+    }
+
+    public static long getEnabledTicks()
+    {
+        return GCProfiler.enabledTicks;
+    }
+
+    public static long start()
+    {
+        return GCProfiler.enabled ? System.nanoTime() : 0L;
+    }
+
+    public static void end(Section section, int dimension, long start)
+    {
+        GCProfiler.end(section, dimension, start, null);
+    }
+
+    /**
+     * @param subject What the time was spent on, or null.  Kept until the next reset, so should
+     *                be something small (a BlockPos, a name) and never a tile, network or world
+     */
+    public static void end(Section section, int dimension, long start, Object subject)
+    {
+        //start is 0 if the profiler was off at the start
+        if (!GCProfiler.enabled || start == 0L)
+        {
+            return;
+        }
+
+        long nanos = System.nanoTime() - start;
+        DimensionStats stats = GCProfiler.getDimension(dimension);
+        stats.sectionNanos[section.ordinal()] += nanos;
+        stats.sectionCalls[section.ordinal()]++;
+        stats.thisTick += nanos;
+
+        if (subject != null)
+        {
+            SubjectStats subjectStats = stats.subjects.get(subject);
+
+            if (subjectStats == null)
+            {
+                if (GCProfiler.subjectCount >= GCProfiler.MAX_SUBJECTS)
+                {
+                    return;
+                }
+                subjectStats = new SubjectStats(subject, section, dimension);
+                stats.subjects.put(subject, subjectStats);
+                GCProfiler.subjectCount++;
+            }
+
+            subjectStats.nanos += nanos;
+            subjectStats.calls++;
+        }
+    }
+
+    /**
+     * For a network: the time is counted in the dimension of its first transmitter, with that
+     * transmitter's position as the subject.  The network itself is not kept.
+     */
+    public static void end(Section section, long start, Collection<?> transmitters)
+    {
+        if (!GCProfiler.enabled || start == 0L)
+        {
+            return;
+        }
+
+        Iterator<?> it = transmitters.iterator();
+        Object first = it.hasNext() ? it.next() : null;
+
+        if (first instanceof TileEntity && ((TileEntity) first).getWorld() != null)
+        {
+            TileEntity tile = (TileEntity) first;
+            GCProfiler.end(section, GCCoreUtil.getDimensionID(tile.getWorld()), start, tile.getPos());
+        }
+        else
+        {
+            GCProfiler.end(section, GCProfiler.ALL_DIMENSIONS, start, null);
+        }
+    }
+
+    /**
+     * Call at the end of each server tick.
+     */
+    public static void endTick()
+    {
+        if (!GCProfiler.enabled)
+        {
+            return;
+        }
+
+        GCProfiler.enabledTicks++;
+
+        for (DimensionStats stats : GCProfiler.dimensions.values())
+        {
+            stats.tickNanos[stats.tickIndex] = stats.thisTick;
+            stats.tickIndex = (stats.tickIndex + 1) % GCProfiler.WINDOW;
+            stats.tickCount = Math.min(stats.tickCount + 1, GCProfiler.WINDOW);
+            stats.thisTick = 0L;
+        }
+    }
+
+    private static DimensionStats getDimension(int dimension)
+    {
+        DimensionStats stats = GCProfiler.dimensions.get(dimension);
+
+        if (stats == null)
+        {
+            stats = new DimensionStats(dimension);
+            GCProfiler.dimensions.put(dimension, stats);
+        }
+
+        return stats;
+    }
+
+    /**
+     * @return The dimensions' stats, most expensive first
+     */
+    public static List<DimensionStats> getDimensions()
+    {
+        List<DimensionStats> result = new ArrayList<DimensionStats>(GCProfiler.dimensions.values());
+        Collections.sort(result, new Comparator<DimensionStats>()
+        {
+            @Override
+            public int compare(DimensionStats a, DimensionStats b)
+            {
+                return Long.compare(b.getTotalNanos(), a.getTotalNanos());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return The most expensive subjects, most expensive first
+     */
+    public static List<SubjectStats> getTopSubjects(int count)
+    {
+        List<SubjectStats> result = new ArrayList<SubjectStats>();
+        for (DimensionStats stats : GCProfiler.dimensions.values())
+        {
+            result.addAll(stats.subjects.values());
+        }
+        Collections.sort(result, new Comparator<SubjectStats>()
+        {
+            @Override
+            public int compare(SubjectStats a, SubjectStats b)
+            {
+                return Long.compare(b.nanos, a.nanos);
+            }
+        });
+        return result.size() > count ? result.subList(0, count) : result;
+    }
+
+    public static void reset()
+    {
+        GCProfiler.dimensions.clear();
+        GCProfiler.subjectCount = 0;
+        GCProfiler.enabledTicks = 0L;
+    }
+}
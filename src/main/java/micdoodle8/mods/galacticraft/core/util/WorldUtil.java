@@ -56,7 +56,6 @@ import org.apache.commons.lang3.ArrayUtils;
 import java.io.File;
 import java.io.FileInputStream;
 import java.util.*;
-import java.util.Map.Entry;
 
 //import micdoodle8.mods.galacticraft.planets.asteroids.entities.EntityAstroMiner;
 
@@ -64,7 +63,9 @@ public class WorldUtil
 {
     public static HashMap<Integer, Integer> registeredSpaceStations;  //Dimension IDs and providers (providers are -26 or -27 by default)
     public static Map<Integer, String> dimNames = new TreeMap();  //Dimension IDs and provider names
-    public static Map<EntityPlayerMP, HashMap<String, Integer>> celestialMapCache = new MapMaker().weakKeys().makeMap();
+    public static Map<EntityPlayerMP, Destinations> celestialMapCache = new MapMaker().weakKeys().makeMap();
+    //Changed whenever the rocket destinations may have changed for anyone: see markDestinationsChanged()
+    private static int destinationsVersion;
     public static List<Integer> registeredPlanets;
 
     public static float getGravityFactor(Entity entity)
@@ -391,13 +392,78 @@ public class WorldUtil
             }
         }
 
-        WorldUtil.celestialMapCache.put(playerBase, map);
+        WorldUtil.celestialMapCache.put(playerBase, new Destinations(tier, playerBase.dimension, WorldUtil.destinationsVersion, map));
         return map;
     }
 
+    /**
+     * A player's possible rocket destinations, as worked out by getArrayOfPossibleDimensions(),
+     * and the same as the list sent to the client.
+     */
+    public static class Destinations
+    {
+        private final int tier;
+        private final int dimension;
+        private final int version;
+        public final HashMap<String, Integer> map;
+        public final String list;
+
+        private Destinations(int tier, int dimension, int version, HashMap<String, Integer> map)
+        {
+            this.tier = tier;
+            this.dimension = dimension;
+            this.version = version;
+            this.map = map;
+            this.list = WorldUtil.getDimensionList(map);
+        }
+    }
+
+    /**
+     * Call when something changes which could change any player's possible rocket destinations:
+     * space stations created or removed, station permissions or owners changed, or dimensions
+     * registered or unregistered.  (Rocket tier and the player's own dimension are checked separately.)
+     */
+    public static void markDestinationsChanged()
+    {
+        WorldUtil.destinationsVersion++;
+    }
+
+    /**
+     * Get the player's possible rocket destinations, only working them out again with
+     * getArrayOfPossibleDimensions() if the tier or the player's dimension are different or
+     * markDestinationsChanged() was called since last time.
+     */
+    public static Destinations getPossibleDestinations(int tier, EntityPlayerMP playerBase)
+    {
+        Destinations destinations = WorldUtil.celestialMapCache.get(playerBase);
+        if (destinations == null || destinations.tier != tier || destinations.dimension != playerBase.dimension || destinations.version != WorldUtil.destinationsVersion)
+        {
+            WorldUtil.getArrayOfPossibleDimensions(tier, playerBase);
+            destinations = WorldUtil.celestialMapCache.get(playerBase);
+        }
+        return destinations;
+    }
+
+    /**
+     * The destinations in the format sent to the client: the names separated by ?
+     */
+    public static String getDimensionList(HashMap<String, Integer> map)
+    {
+        StringBuilder dimensionList = new StringBuilder();
+        for (String name : map.keySet())
+        {
+            if (dimensionList.length() > 0)
+            {
+                dimensionList.append('?');
+            }
+            dimensionList.append(name);
+        }
+        return dimensionList.toString();
+    }
+
     /**
      * Get the cached version of getArrayOfPossibleDimensions() to reduce server load + unwanted dimension loading
-     * The cache will be updated every time the 'proper' version of getArrayOfPossibleDimensions is called.
+     * The cache is updated when the destinations may have changed - see getPossibleDestinations()
      *
      * @param tier       - the rocket tier to test
      * @param playerBase - the player who will be riding the rocket (needed for checking space station permissions)
@@ -405,12 +471,7 @@ public class WorldUtil
      */
     public static HashMap<String, Integer> getArrayOfPossibleDimensionsAgain(int tier, EntityPlayerMP playerBase)
     {
-        HashMap<String, Integer> map = WorldUtil.celestialMapCache.get(playerBase);
-        if (map != null)
-        {
-            return map;
-        }
-        return getArrayOfPossibleDimensions(tier, playerBase);
+        return WorldUtil.getPossibleDestinations(tier, playerBase).map;
     }
 
     public static void unregisterSpaceStations()
@@ -424,12 +485,15 @@ public class WorldUtil
 
             WorldUtil.registeredSpaceStations = null;
         }
+
+        WorldUtil.markDestinationsChanged();
     }
 
     public static void registerSpaceStations(File spaceStationList)
     {
 //        WorldUtil.registeredSpaceStations = WorldUtil.getExistingSpaceStationList(spaceStationList);
         WorldUtil.registeredSpaceStations = Maps.newHashMap();
+        WorldUtil.markDestinationsChanged();
         MinecraftServer theServer = FMLCommonHandler.instance().getMinecraftServerInstance();
         if (theServer == null)
         {
@@ -530,6 +594,7 @@ public class WorldUtil
         {
             WorldUtil.registeredPlanets = new ArrayList<Integer>();
         }
+        WorldUtil.markDestinationsChanged();
 
         if (initialiseDimensionAtServerInit)
         {
@@ -569,6 +634,7 @@ public class WorldUtil
             WorldUtil.registeredPlanets = null;
         }
         WorldUtil.dimNames.clear();
+        WorldUtil.markDestinationsChanged();
     }
 
     /**
@@ -658,6 +724,7 @@ public class WorldUtil
         {
             GCLog.severe("Dimension already registered to another mod: unable to register space station dimension " + dimID);
         }
+        WorldUtil.markDestinationsChanged();
 
         for (WorldServer server : MinecraftServer.getServer().worldServers)
         {
@@ -1263,14 +1330,8 @@ public class WorldUtil
         player.mountEntity(null);
         stats.setSpaceshipTier(tier);
 
-        HashMap<String, Integer> map = WorldUtil.getArrayOfPossibleDimensions(tier, player);
-        String dimensionList = "";
-        int count = 0;
-        for (Entry<String, Integer> entry : map.entrySet())
-        {
-            dimensionList = dimensionList.concat(entry.getKey() + (count < map.entrySet().size() - 1 ? "?" : ""));
-            count++;
-        }
+        WorldUtil.getArrayOfPossibleDimensions(tier, player);
+        String dimensionList = WorldUtil.celestialMapCache.get(player).list;
 
         GalacticraftCore.packetPipeline.sendTo(new PacketSimple(EnumSimplePacket.C_UPDATE_DIMENSION_LIST, GCCoreUtil.getDimensionID(player.worldObj), new Object[] { player.getGameProfile().getName(), dimensionList }), player);
         stats.setUsingPlanetSelectionGui(true);
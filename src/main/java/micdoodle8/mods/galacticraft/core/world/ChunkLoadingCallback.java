@@ -1,5 +1,6 @@
 package micdoodle8.mods.galacticraft.core.world;
 
+import micdoodle8.mods.galacticraft.core.util.AsyncSaveWriter;
 import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
 import micdoodle8.mods.galacticraft.core.util.GCLog;
 import net.minecraft.entity.player.EntityPlayer;
@@ -148,71 +149,44 @@ public class ChunkLoadingCallback implements LoadingCallback
         {
             File saveFile = new File(saveDir, "chunkloaders.dat");
 
-            if (!saveFile.exists())
+            //Snapshot the list here, the file is written in the background
+            final HashMap<String, HashMap<Integer, HashSet<BlockPos>>> snapshot = new HashMap<String, HashMap<Integer, HashSet<BlockPos>>>();
+
+            for (Entry<String, HashMap<Integer, HashSet<BlockPos>>> playerEntry : ChunkLoadingCallback.chunkLoaderList.entrySet())
             {
-                try
-                {
-                    if (!saveFile.createNewFile())
-                    {
-                        GCLog.severe("Could not create chunk loader data file: " + saveFile.getAbsolutePath());
-                    }
-                }
-                catch (IOException e)
+                HashMap<Integer, HashSet<BlockPos>> dimensionMap = new HashMap<Integer, HashSet<BlockPos>>();
+
+                for (Entry<Integer, HashSet<BlockPos>> dimensionEntry : playerEntry.getValue().entrySet())
                 {
-                    GCLog.severe("Could not create chunk loader data file: " + saveFile.getAbsolutePath());
-                    e.printStackTrace();
+                    dimensionMap.put(dimensionEntry.getKey(), new HashSet<BlockPos>(dimensionEntry.getValue()));
                 }
-            }
 
-            FileOutputStream fos = null;
-            try
-            {
-                fos = new FileOutputStream(saveFile);
+                snapshot.put(playerEntry.getKey(), dimensionMap);
             }
-            catch (FileNotFoundException e)
-            {
-                e.printStackTrace();
-            }
-            if (fos != null)
+
+            AsyncSaveWriter.write(saveFile, dataStream ->
             {
-                DataOutputStream dataStream = new DataOutputStream(fos);
-                try
+                dataStream.writeInt(snapshot.size());
+
+                for (Entry<String, HashMap<Integer, HashSet<BlockPos>>> playerEntry : snapshot.entrySet())
                 {
-                    dataStream.writeInt(ChunkLoadingCallback.chunkLoaderList.size());
+                    dataStream.writeUTF(playerEntry.getKey());
+                    dataStream.writeInt(playerEntry.getValue().size());
 
-                    for (Entry<String, HashMap<Integer, HashSet<BlockPos>>> playerEntry : ChunkLoadingCallback.chunkLoaderList.entrySet())
+                    for (Entry<Integer, HashSet<BlockPos>> dimensionEntry : playerEntry.getValue().entrySet())
                     {
-                        dataStream.writeUTF(playerEntry.getKey());
-                        dataStream.writeInt(playerEntry.getValue().size());
+                        dataStream.writeInt(dimensionEntry.getKey());
+                        dataStream.writeInt(dimensionEntry.getValue().size());
 
-                        for (Entry<Integer, HashSet<BlockPos>> dimensionEntry : playerEntry.getValue().entrySet())
+                        for (BlockPos coords : dimensionEntry.getValue())
                         {
-                            dataStream.writeInt(dimensionEntry.getKey());
-                            dataStream.writeInt(dimensionEntry.getValue().size());
-
-                            for (BlockPos coords : dimensionEntry.getValue())
-                            {
-                                dataStream.writeInt(coords.getX());
-                                dataStream.writeInt(coords.getY());
-                                dataStream.writeInt(coords.getZ());
-                            }
+                            dataStream.writeInt(coords.getX());
+                            dataStream.writeInt(coords.getY());
+                            dataStream.writeInt(coords.getZ());
                         }
                     }
                 }
-                catch (IOException e)
-                {
-                    e.printStackTrace();
-                }
-                try
-                {
-                    dataStream.close();
-                    fos.close();
-                }
-                catch (IOException e)
-                {
-                    e.printStackTrace();
-                }
-            }
+            });
         }
         ChunkLoadingCallback.dirtyData = false;
     }
@@ -264,7 +238,7 @@ public class ChunkLoadingCallback implements LoadingCallback
 
                 if (saveFile.exists())
                 {
-                    dataStream = new DataInputStream(new FileInputStream(saveFile));
+                    dataStream = new DataInputStream(new BufferedInputStream(new FileInputStream(saveFile)));
 
                     int playerCount = dataStream.readInt();
 
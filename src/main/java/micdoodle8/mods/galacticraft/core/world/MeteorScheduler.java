@@ -0,0 +1,133 @@
+package micdoodle8.mods.galacticraft.core.world;
+
+import micdoodle8.mods.galacticraft.api.world.IGalacticraftWorldProvider;
+import micdoodle8.mods.galacticraft.core.entities.EntityMeteor;
+import micdoodle8.mods.galacticraft.core.util.ConfigManagerCore;
+import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+
+import java.util.*;
+
+/**
+ * Spawns meteors in Galacticraft dimensions, and sets off their impact explosions.
+ *
+ * Spawning is rolled once per tick for each region (of 8x8 chunks) with players in it, with the odds
+ * scaled by the number of players there, so the meteor rate per player is the same as when each
+ * player rolled for themselves.
+ *
+ * Impact explosions are queued and at most {@link #MAX_IMPACTS_PER_TICK} go off per tick in each
+ * dimension, the rest in the following ticks.
+ */
+public class MeteorScheduler
+{
+    private static final int REGION_SHIFT = 7;
+    public static final int MAX_IMPACTS_PER_TICK = 4;
+
+    private static final Map<Integer, ArrayDeque<EntityMeteor>> impacts = new HashMap<Integer, ArrayDeque<EntityMeteor>>();
+
+    public static void tick(World world)
+    {
+        MeteorScheduler.spawnMeteors(world);
+
+        ArrayDeque<EntityMeteor> queue = MeteorScheduler.impacts.get(GCCoreUtil.getDimensionID(world));
+
+        if (queue != null)
+        {
+            for (int i = 0; i < MeteorScheduler.MAX_IMPACTS_PER_TICK && !queue.isEmpty(); i++)
+            {
+                EntityMeteor meteor = queue.poll();
+                world.newExplosion(meteor, meteor.posX, meteor.posY, meteor.posZ, meteor.size / 3 + 2, false, true);
+            }
+
+            if (queue.isEmpty())
+            {
+                MeteorScheduler.impacts.remove(GCCoreUtil.getDimensionID(world));
+            }
+        }
+    }
+
+    /**
+     * Queue the explosion of a meteor which has hit something, at the meteor's position.
+     */
+    public static void scheduleImpact(EntityMeteor meteor)
+    {
+        int dimID = GCCoreUtil.getDimensionID(meteor.worldObj);
+        ArrayDeque<EntityMeteor> queue = MeteorScheduler.impacts.get(dimID);
+
+        if (queue == null)
+        {
+            queue = new ArrayDeque<EntityMeteor>();
+            MeteorScheduler.impacts.put(dimID, queue);
+        }
+
+        queue.add(meteor);
+    }
+
+    private static void spawnMeteors(World world)
+    {
+        if (!(world.provider instanceof IGalacticraftWorldProvider) || world.playerEntities.isEmpty())
+        {
+            return;
+        }
+
+        if (((IGalacticraftWorldProvider) world.provider).getMeteorFrequency() > 0 && ConfigManagerCore.meteorSpawnMod > 0.0)
+        {
+            final int f = (int) (((IGalacticraftWorldProvider) world.provider).getMeteorFrequency() * 1000D * (1.0 / ConfigManagerCore.meteorSpawnMod));
+
+            Map<Long, List<EntityPlayer>> regions = new HashMap<Long, List<EntityPlayer>>();
+
+            for (EntityPlayer player : world.playerEntities)
+            {
+                Long region = ChunkCoordIntPair.chunkXZ2Int(MathHelper.floor_double(player.posX) >> MeteorScheduler.REGION_SHIFT, MathHelper.floor_double(player.posZ) >> MeteorScheduler.REGION_SHIFT);
+                List<EntityPlayer> players = regions.get(region);
+
+                if (players == null)
+                {
+                    players = new ArrayList<EntityPlayer>(1);
+                    regions.put(region, players);
+                }
+
+                players.add(player);
+            }
+
+            for (List<EntityPlayer> players : regions.values())
+            {
+                if (world.rand.nextInt(f) < players.size())
+                {
+                    MeteorScheduler.spawnMeteor(world, players.get(world.rand.nextInt(players.size())), 1);
+                }
+
+                if (world.rand.nextInt(f * 3) < players.size())
+                {
+                    MeteorScheduler.spawnMeteor(world, players.get(world.rand.nextInt(players.size())), 6);
+                }
+            }
+        }
+    }
+
+    private static void spawnMeteor(World world, EntityPlayer player, int size)
+    {
+        int x, y, z;
+        double motX, motZ;
+        x = world.rand.nextInt(20) - 10;
+        y = world.rand.nextInt(20) + 200;
+        z = world.rand.nextInt(20) - 10;
+        motX = world.rand.nextDouble() * 5;
+        motZ = world.rand.nextDouble() * 5;
+
+        world.spawnEntityInWorld(new EntityMeteor(world, player.posX + x, player.posY + y, player.posZ + z, motX - 2.5D, 0, motZ - 2.5D, size));
+    }
+
+    public static void unload(World world)
+    {
+        MeteorScheduler.impacts.remove(GCCoreUtil.getDimensionID(world));
+    }
+
+    public static void reset()
+    {
+        MeteorScheduler.impacts.clear();
+    }
+}
@@ -0,0 +1,210 @@
+package micdoodle8.mods.galacticraft.core.world;
+
+import micdoodle8.mods.galacticraft.core.event.EventHandlerGC;
+import micdoodle8.mods.galacticraft.core.util.AsyncSaveWriter;
+import micdoodle8.mods.galacticraft.core.util.ConfigManagerCore;
+import micdoodle8.mods.galacticraft.core.util.GCLog;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+import net.minecraftforge.common.DimensionManager;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Remembers which Overworld chunks have already had oil retrogen, so that each chunk is only
+ * retrogenned once instead of on every load.
+ *
+ * The chunks are tracked in regions of 32x32 chunks (like vanilla region files), one bit per chunk,
+ * saved in the galacticraft/oilretrogen folder.  A region's file is only read the first time a chunk
+ * in that region loads.  Loaded chunks are queued and retrogenned a few per tick.
+ */
+public class OilRetrogenTracker
+{
+    private static final int REGION_WORDS = 32 * 32 / 64;
+
+    private static final Map<Long, Region> regions = new HashMap<Long, Region>();
+    private static final LinkedHashSet<Long> queue = new LinkedHashSet<Long>();
+
+    private static class Region
+    {
+        private final long[] done = new long[OilRetrogenTracker.REGION_WORDS];
+        private boolean dirty;
+    }
+
+    /**
+     * Queue a newly loaded chunk for retrogen, if it has not had it already.
+     */
+    public static void onChunkLoad(int chunkX, int chunkZ)
+    {
+        if (!OilRetrogenTracker.isDone(chunkX, chunkZ))
+        {
+            OilRetrogenTracker.queue.add(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+        }
+    }
+
+    /**
+     * Retrogen up to the configured number of queued chunks.  Chunks which have unloaded again are
+     * dropped from the queue - they will be queued again next time they load.
+     */
+    public static void tick(World world)
+    {
+        if (OilRetrogenTracker.queue.isEmpty())
+        {
+            return;
+        }
+
+        int budget = ConfigManagerCore.retrogenOilPerTick;
+        Iterator<Long> it = OilRetrogenTracker.queue.iterator();
+
+        while (it.hasNext() && budget > 0)
+        {
+            long key = it.next();
+            it.remove();
+            int chunkX = (int) key;
+            int chunkZ = (int) (key >> 32);
+
+            if (!world.getChunkProvider().chunkExists(chunkX, chunkZ) || OilRetrogenTracker.isDone(chunkX, chunkZ))
+            {
+                continue;
+            }
+
+            EventHandlerGC.retrogenOil(world, world.getChunkFromChunkCoords(chunkX, chunkZ));
+            OilRetrogenTracker.setDone(chunkX, chunkZ);
+            budget--;
+        }
+    }
+
+    public static boolean isDone(int chunkX, int chunkZ)
+    {
+        int bit = OilRetrogenTracker.bitIndex(chunkX, chunkZ);
+        return (OilRetrogenTracker.getRegion(chunkX >> 5, chunkZ >> 5).done[bit >> 6] & 1L << bit) != 0L;
+    }
+
+    private static void setDone(int chunkX, int chunkZ)
+    {
+        int bit = OilRetrogenTracker.bitIndex(chunkX, chunkZ);
+        Region region = OilRetrogenTracker.getRegion(chunkX >> 5, chunkZ >> 5);
+        region.done[bit >> 6] |= 1L << bit;
+        region.dirty = true;
+    }
+
+    private static int bitIndex(int chunkX, int chunkZ)
+    {
+        return (chunkX & 31) | (chunkZ & 31) << 5;
+    }
+
+    private static Region getRegion(int regionX, int regionZ)
+    {
+        Long key = ChunkCoordIntPair.chunkXZ2Int(regionX, regionZ);
+        Region region = OilRetrogenTracker.regions.get(key);
+
+        if (region == null)
+        {
+            region = new Region();
+            OilRetrogenTracker.load(region, OilRetrogenTracker.getRegionFile(regionX, regionZ));
+            OilRetrogenTracker.regions.put(key, region);
+        }
+
+        return region;
+    }
+
+    private static File getSaveDir()
+    {
+        return new File(DimensionManager.getCurrentSaveRootDirectory(), "galacticraft/oilretrogen");
+    }
+
+    private static File getRegionFile(int regionX, int regionZ)
+    {
+        return new File(OilRetrogenTracker.getSaveDir(), "r." + regionX + "." + regionZ + ".dat");
+    }
+
+    private static void load(Region region, File file)
+    {
+        if (!file.exists())
+        {
+            return;
+        }
+
+        DataInputStream dataStream = null;
+
+        try
+        {
+            dataStream = new DataInputStream(new FileInputStream(file));
+
+            for (int i = 0; i < OilRetrogenTracker.REGION_WORDS; i++)
+            {
+                region.done[i] = dataStream.readLong();
+            }
+        }
+        catch (Exception e)
+        {
+            GCLog.severe("Could not read oil retrogen data file: " + file.getAbsolutePath());
+            e.printStackTrace();
+        }
+        finally
+        {
+            if (dataStream != null)
+            {
+                try
+                {
+                    dataStream.close();
+                }
+                catch (Exception e)
+                {
+                }
+            }
+        }
+    }
+
+    /**
+     * Queue the changed regions to be written in the background.  Call when the Overworld saves.
+     */
+    public static void save()
+    {
+        File saveDir = null;
+
+        for (Map.Entry<Long, Region> entry : OilRetrogenTracker.regions.entrySet())
+        {
+            Region region = entry.getValue();
+
+            if (!region.dirty)
+            {
+                continue;
+            }
+
+            if (saveDir == null)
+            {
+                saveDir = OilRetrogenTracker.getSaveDir();
+
+                if (!saveDir.exists() && !saveDir.mkdirs())
+                {
+                    GCLog.severe("Could not create oil retrogen save data folder: " + saveDir.getAbsolutePath());
+                    return;
+                }
+            }
+
+            long key = entry.getKey();
+            final long[] snapshot = region.done.clone();
+            AsyncSaveWriter.write(OilRetrogenTracker.getRegionFile((int) key, (int) (key >> 32)), dataStream ->
+            {
+                for (long word : snapshot)
+                {
+                    dataStream.writeLong(word);
+                }
+            });
+            region.dirty = false;
+        }
+    }
+
+    public static void reset()
+    {
+        OilRetrogenTracker.regions.clear();
+        OilRetrogenTracker.queue.clear();
+    }
+}
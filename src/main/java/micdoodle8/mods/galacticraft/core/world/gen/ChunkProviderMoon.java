@@ -24,6 +24,7 @@ import net.minecraft.world.chunk.ChunkPrimer;
 import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.gen.ChunkProviderGenerate;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
@@ -39,6 +40,8 @@ public class ChunkProviderMoon extends ChunkProviderGenerate
     private final NoiseModule noiseGen2;
     private final NoiseModule noiseGen3;
     private final NoiseModule noiseGen4;
+    private final float[] noiseCraters = new float[256];
+    private final CraterCache craterCache = new CraterCache(this::findCraters, 256);
 
     private final World worldObj;
     private final MapGenVillageMoon villageGenerator = new MapGenVillageMoon();
@@ -209,23 +212,44 @@ public class ChunkProviderMoon extends ChunkProviderGenerate
         {
             for (int cz = chunkZ - 2; cz <= chunkZ + 2; cz++)
             {
-                for (int x = 0; x < ChunkProviderMoon.CHUNK_SIZE_X; x++)
+                final int[] craters = this.craterCache.getCraters(cx, cz);
+                for (int i = 0; i < craters.length; i += 3)
                 {
-                    for (int z = 0; z < ChunkProviderMoon.CHUNK_SIZE_Z; z++)
+                    if (CraterCache.reachesChunk(craters[i], craters[i + 1], craters[i + 2], chunkX * 16, chunkZ * 16))
                     {
-                        if (Math.abs(this.randFromPoint(cx * 16 + x, (cz * 16 + z) * 1000)) < this.noiseGen4.getNoise(x * ChunkProviderMoon.CHUNK_SIZE_X + x, cz * ChunkProviderMoon.CHUNK_SIZE_Z + z) / ChunkProviderMoon.CRATER_PROB)
-                        {
-                            final Random random = new Random(cx * 16 + x + (cz * 16 + z) * 5000);
-                            final EnumCraterSize cSize = EnumCraterSize.sizeArray[random.nextInt(EnumCraterSize.sizeArray.length)];
-                            final int size = random.nextInt(cSize.MAX_SIZE - cSize.MIN_SIZE) + cSize.MIN_SIZE;
-                            this.makeCrater(cx * 16 + x, cz * 16 + z, chunkX * 16, chunkZ * 16, size, primer);
-                        }
+                        this.makeCrater(craters[i], craters[i + 1], chunkX * 16, chunkZ * 16, craters[i + 2], primer);
                     }
                 }
             }
         }
     }
 
+    private int[] findCraters(int cx, int cz)
+    {
+        //The noise x coordinate here has always been x * 17, whichever chunk: kept so that existing worlds match
+        this.noiseGen4.fillNoise2d(this.noiseCraters, 0F, cz * ChunkProviderMoon.CHUNK_SIZE_Z, ChunkProviderMoon.CHUNK_SIZE_X + 1, 1F, ChunkProviderMoon.CHUNK_SIZE_X, ChunkProviderMoon.CHUNK_SIZE_Z);
+        int[] craters = CraterCache.NO_CRATERS;
+
+        for (int x = 0; x < ChunkProviderMoon.CHUNK_SIZE_X; x++)
+        {
+            for (int z = 0; z < ChunkProviderMoon.CHUNK_SIZE_Z; z++)
+            {
+                if (Math.abs(this.randFromPoint(cx * 16 + x, (cz * 16 + z) * 1000)) < this.noiseCraters[x * ChunkProviderMoon.CHUNK_SIZE_Z + z] / ChunkProviderMoon.CRATER_PROB)
+                {
+                    final Random random = new Random(cx * 16 + x + (cz * 16 + z) * 5000);
+                    final EnumCraterSize cSize = EnumCraterSize.sizeArray[random.nextInt(EnumCraterSize.sizeArray.length)];
+                    final int size = random.nextInt(cSize.MAX_SIZE - cSize.MIN_SIZE) + cSize.MIN_SIZE;
+                    craters = Arrays.copyOf(craters, craters.length + 3);
+                    craters[craters.length - 3] = cx * 16 + x;
+                    craters[craters.length - 2] = cz * 16 + z;
+                    craters[craters.length - 1] = size;
+                }
+            }
+        }
+
+        return craters;
+    }
+
     private void makeCrater(int craterX, int craterZ, int chunkX, int chunkZ, int size, ChunkPrimer primer)
     {
         for (int x = 0; x < ChunkProviderMoon.CHUNK_SIZE_X; x++)
@@ -0,0 +1,69 @@
+package micdoodle8.mods.galacticraft.core.world.gen;
+
+import net.minecraft.world.ChunkCoordIntPair;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the craters centred in each chunk, for chunk providers which carve craters.
+ *
+ * A crater can reach up to 2 chunks away from its centre, so generating each chunk looks at the
+ * craters of the surrounding 5x5 chunks - working those out means a noise and a random number test
+ * for every column.  Neighbouring chunks share most of that area, so the craters found in each chunk
+ * are kept here and the least recently used chunks are dropped when the cache is full.
+ */
+public class CraterCache
+{
+    public interface ICraterFinder
+    {
+        /**
+         * @return the craters centred in this chunk as {x, z, size} triples in block coordinates, in
+         * the order they should be carved
+         */
+        int[] findCraters(int chunkX, int chunkZ);
+    }
+
+    public static final int[] NO_CRATERS = new int[0];
+
+    private final ICraterFinder finder;
+    private final Map<Long, int[]> craters;
+
+    public CraterCache(ICraterFinder finder, final int capacity)
+    {
+        this.finder = finder;
+        this.craters = new LinkedHashMap<Long, int[]>(capacity * 4 / 3 + 1, 0.75F, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, int[]> eldest)
+            {
+                return this.size() > capacity;
+            }
+        };
+    }
+
+    public int[] getCraters(int chunkX, int chunkZ)
+    {
+        Long key = ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ);
+        int[] result = this.craters.get(key);
+
+        if (result == null)
+        {
+            result = this.finder.findCraters(chunkX, chunkZ);
+            this.craters.put(key, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * True if a crater centred at (craterX, craterZ) reaches any column of the 16x16 chunk starting
+     * at (blockX, blockZ) - the same test as carving it column by column would make.
+     */
+    public static boolean reachesChunk(int craterX, int craterZ, int size, int blockX, int blockZ)
+    {
+        double xDev = craterX < blockX ? blockX - craterX : (craterX > blockX + 15 ? craterX - (blockX + 15) : 0);
+        double zDev = craterZ < blockZ ? blockZ - craterZ : (craterZ > blockZ + 15 ? craterZ - (blockZ + 15) : 0);
+        return xDev * xDev + zDev * zDev < size * size;
+    }
+}
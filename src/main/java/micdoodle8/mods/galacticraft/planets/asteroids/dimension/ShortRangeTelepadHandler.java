@@ -2,19 +2,19 @@ package micdoodle8.mods.galacticraft.planets.asteroids.dimension;
 
 import com.google.common.collect.Maps;
 import micdoodle8.mods.galacticraft.api.vector.BlockVec3;
+import micdoodle8.mods.galacticraft.core.util.AsyncWorldSavedData;
 import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
 import micdoodle8.mods.galacticraft.core.util.GCLog;
 import micdoodle8.mods.galacticraft.planets.asteroids.tick.AsteroidsTickHandlerServer;
 import micdoodle8.mods.galacticraft.planets.asteroids.tile.TileEntityShortRangeTelepad;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
-import net.minecraft.world.WorldSavedData;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import java.util.Map;
 
-public class ShortRangeTelepadHandler extends WorldSavedData
+public class ShortRangeTelepadHandler extends AsyncWorldSavedData
 {
     public static final String saveDataID = "ShortRangeTelepads";
     private static Map<Integer, TelepadEntry> tileMap = Maps.newHashMap();
@@ -0,0 +1,194 @@
+package micdoodle8.mods.galacticraft.planets.asteroids.entities;
+
+import micdoodle8.mods.galacticraft.api.vector.BlockVec3;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.EnumFacing;
+
+import java.util.Arrays;
+
+/**
+ * An Astro Miner's list of positions to visit, in order, packed as x, y, z triples in an int array.
+ * Used for the shafts still to be mined at the current target, and for the waypoints back to base.
+ */
+public class AstroMinerPlan
+{
+    //The shafts mined at each target: lateral offset, vertical offset, and 1 if at the far end of the shaft
+    private static final int[] SHAFTS = {
+            0, 0, 1,
+            4, 0, 1,
+            4, 0, 0,
+            2, 3, 0,
+            2, 3, 1,
+            -2, 3, 1,
+            -2, 3, 0,
+            -4, 0, 0,
+            -4, 0, 1,
+            -2, -3, 1,
+            -2, -3, 0,
+            2, -3, 0,
+            2, -3, 1,
+            0, 0, 1 };
+
+    private int[] coords = new int[48];
+    private int start;
+    private int end;
+    //Returned by getFirst() and getLast() so that following the plan each tick does not allocate
+    private final BlockVec3 view = new BlockVec3();
+
+    public int size()
+    {
+        return (this.end - this.start) / 3;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.end == this.start;
+    }
+
+    public void clear()
+    {
+        this.start = 0;
+        this.end = 0;
+    }
+
+    public void add(BlockVec3 pos)
+    {
+        this.add(pos.x, pos.y, pos.z);
+    }
+
+    public void add(int x, int y, int z)
+    {
+        if (this.end + 3 > this.coords.length)
+        {
+            this.compact(3);
+        }
+        this.coords[this.end++] = x;
+        this.coords[this.end++] = y;
+        this.coords[this.end++] = z;
+    }
+
+    public void addFirst(BlockVec3 pos)
+    {
+        if (this.start < 3)
+        {
+            this.compact(3);
+            System.arraycopy(this.coords, 0, this.coords, 3, this.end);
+            this.start += 3;
+            this.end += 3;
+        }
+        this.coords[--this.start] = pos.z;
+        this.coords[--this.start] = pos.y;
+        this.coords[--this.start] = pos.x;
+    }
+
+    /**
+     * Move the entries to the start of the array, making sure there is room for extra more ints.
+     */
+    private void compact(int extra)
+    {
+        int length = this.end - this.start;
+        if (length + extra > this.coords.length - 3)
+        {
+            int[] newCoords = new int[(length + extra) * 2];
+            System.arraycopy(this.coords, this.start, newCoords, 0, length);
+            this.coords = newCoords;
+        }
+        else
+        {
+            System.arraycopy(this.coords, this.start, this.coords, 0, length);
+        }
+        this.start = 0;
+        this.end = length;
+    }
+
+    /**
+     * The returned vector is re-used by the next call: clone it to keep it.
+     */
+    public BlockVec3 getFirst()
+    {
+        return this.get(this.start);
+    }
+
+    /**
+     * The returned vector is re-used by the next call: clone it to keep it.
+     */
+    public BlockVec3 getLast()
+    {
+        return this.get(this.end - 3);
+    }
+
+    public BlockVec3 removeFirst()
+    {
+        BlockVec3 result = new BlockVec3(this.coords[this.start], this.coords[this.start + 1], this.coords[this.start + 2]);
+        this.start += 3;
+        return result;
+    }
+
+    public void removeLast()
+    {
+        this.end -= 3;
+    }
+
+    private BlockVec3 get(int index)
+    {
+        this.view.x = this.coords[index];
+        this.view.y = this.coords[index + 1];
+        this.view.z = this.coords[index + 2];
+        return this.view;
+    }
+
+    /**
+     * Plan all the shafts to mine at a target, starting from the block in front of the miner.
+     *
+     * @param length Length of each shaft
+     * @param baseFacing The direction the miner base faces: shafts run parallel to it
+     */
+    public void addShafts(BlockVec3 inFront, EnumFacing baseFacing, int length)
+    {
+        if (baseFacing == EnumFacing.NORTH || baseFacing == EnumFacing.WEST)
+        {
+            length = -length;
+        }
+        boolean alongZ = baseFacing == EnumFacing.NORTH || baseFacing == EnumFacing.SOUTH;
+
+        for (int i = 0; i < AstroMinerPlan.SHAFTS.length; i += 3)
+        {
+            int lateral = AstroMinerPlan.SHAFTS[i];
+            int along = AstroMinerPlan.SHAFTS[i + 2] * length;
+            if (alongZ)
+            {
+                this.add(inFront.x + lateral, inFront.y + AstroMinerPlan.SHAFTS[i + 1], inFront.z + along);
+            }
+            else
+            {
+                this.add(inFront.x + along, inFront.y + AstroMinerPlan.SHAFTS[i + 1], inFront.z + lateral);
+            }
+        }
+    }
+
+    public NBTTagList writeToNBT()
+    {
+        NBTTagList list = new NBTTagList();
+        for (int i = this.start; i < this.end; i += 3)
+        {
+            list.appendTag(new BlockVec3(this.coords[i], this.coords[i + 1], this.coords[i + 2]).writeToNBT(new NBTTagCompound()));
+        }
+        return list;
+    }
+
+    public void readFromNBT(NBTTagList list)
+    {
+        this.clear();
+        for (int j = 0; j < list.tagCount(); j++)
+        {
+            this.add(BlockVec3.readFromNBT(list.getCompoundTagAt(j)));
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return Arrays.toString(Arrays.copyOfRange(this.coords, this.start, this.end));
+    }
+}
@@ -0,0 +1,197 @@
+package micdoodle8.mods.galacticraft.planets.asteroids.entities;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.IWorldAccess;
+import net.minecraft.world.World;
+
+import java.util.*;
+
+/**
+ * Tells Astro Miners when a block changes in front of them.
+ *
+ * Once a miner has checked the blocks in front of it and found nothing to mine, it does not need
+ * to check them again every tick while it moves through that block - unless something changes
+ * there.  Each miner's checked area is registered here under the chunk sections it overlaps, and
+ * block changes in the world (seen the same way the renderer sees them) clear it.
+ */
+public class AstroMinerWatcher implements IWorldAccess
+{
+    private static final Map<World, AstroMinerWatcher> watchers = new HashMap<World, AstroMinerWatcher>();
+
+    private final Map<Long, List<EntityAstroMiner>> bySection = new HashMap<Long, List<EntityAstroMiner>>();
+    private final Map<EntityAstroMiner, int[]> areas = new HashMap<EntityAstroMiner, int[]>();
+
+    /**
+     * Watch the blocks within 2 of x, y, z for the miner, replacing anything it watched before.
+     */
+    public static void watch(EntityAstroMiner miner, int x, int y, int z)
+    {
+        AstroMinerWatcher watcher = AstroMinerWatcher.watchers.get(miner.worldObj);
+
+        if (watcher == null)
+        {
+            watcher = new AstroMinerWatcher();
+            miner.worldObj.addWorldAccess(watcher);
+            AstroMinerWatcher.watchers.put(miner.worldObj, watcher);
+        }
+
+        watcher.remove(miner);
+        int[] area = new int[] { x - 2, y - 2, z - 2, x + 2, y + 2, z + 2 };
+        watcher.areas.put(miner, area);
+
+        for (int sx = area[0] >> 4; sx <= area[3] >> 4; sx++)
+        {
+            for (int sy = area[1] >> 4; sy <= area[4] >> 4; sy++)
+            {
+                for (int sz = area[2] >> 4; sz <= area[5] >> 4; sz++)
+                {
+                    Long key = new BlockPos(sx, sy, sz).toLong();
+                    List<EntityAstroMiner> miners = watcher.bySection.get(key);
+                    if (miners == null)
+                    {
+                        miners = new ArrayList<EntityAstroMiner>(2);
+                        watcher.bySection.put(key, miners);
+                    }
+                    miners.add(miner);
+                }
+            }
+        }
+    }
+
+    public static void unwatch(EntityAstroMiner miner)
+    {
+        AstroMinerWatcher watcher = AstroMinerWatcher.watchers.get(miner.worldObj);
+
+        if (watcher != null)
+        {
+            watcher.remove(miner);
+        }
+    }
+
+    public static void unload(World world)
+    {
+        AstroMinerWatcher watcher = AstroMinerWatcher.watchers.remove(world);
+
+        if (watcher != null)
+        {
+            world.removeWorldAccess(watcher);
+        }
+    }
+
+    private void remove(EntityAstroMiner miner)
+    {
+        int[] area = this.areas.remove(miner);
+
+        if (area == null)
+        {
+            return;
+        }
+
+        for (int sx = area[0] >> 4; sx <= area[3] >> 4; sx++)
+        {
+            for (int sy = area[1] >> 4; sy <= area[4] >> 4; sy++)
+            {
+                for (int sz = area[2] >> 4; sz <= area[5] >> 4; sz++)
+                {
+                    Long key = new BlockPos(sx, sy, sz).toLong();
+                    List<EntityAstroMiner> miners = this.bySection.get(key);
+                    if (miners != null)
+                    {
+                        miners.remove(miner);
+                        if (miners.isEmpty())
+                        {
+                            this.bySection.remove(key);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void markBlockForUpdate(BlockPos pos)
+    {
+        if (this.bySection.isEmpty())
+        {
+            return;
+        }
+
+        List<EntityAstroMiner> miners = this.bySection.get(new BlockPos(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4).toLong());
+
+        if (miners == null)
+        {
+            return;
+        }
+
+        for (EntityAstroMiner miner : new ArrayList<EntityAstroMiner>(miners))
+        {
+            int[] area = this.areas.get(miner);
+            if (pos.getX() >= area[0] && pos.getY() >= area[1] && pos.getZ() >= area[2] && pos.getX() <= area[3] && pos.getY() <= area[4] && pos.getZ() <= area[5])
+            {
+                this.remove(miner);
+                miner.onPathChanged();
+            }
+        }
+    }
+
+    @Override
+    public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2)
+    {
+    }
+
+    @Override
+    public void onEntityRemoved(Entity entityIn)
+    {
+        if (entityIn instanceof EntityAstroMiner)
+        {
+            this.remove((EntityAstroMiner) entityIn);
+        }
+    }
+
+    @Override
+    public void notifyLightSet(BlockPos pos)
+    {
+    }
+
+    @Override
+    public void playSound(String soundName, double x, double y, double z, float volume, float pitch)
+    {
+    }
+
+    @Override
+    public void playSoundToNearExcept(EntityPlayer except, String soundName, double x, double y, double z, float volume, float pitch)
+    {
+    }
+
+    @Override
+    public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord, double xOffset, double yOffset, double zOffset, int... parameters)
+    {
+    }
+
+    @Override
+    public void onEntityAdded(Entity entityIn)
+    {
+    }
+
+    @Override
+    public void playRecord(String recordName, BlockPos blockPosIn)
+    {
+    }
+
+    @Override
+    public void broadcastSound(int soundID, BlockPos pos, int data)
+    {
+    }
+
+    @Override
+    public void playAuxSFX(EntityPlayer player, int sfxType, BlockPos blockPosIn, int data)
+    {
+    }
+
+    @Override
+    public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress)
+    {
+    }
+}
@@ -94,8 +94,8 @@ public class EntityAstroMiner extends Entity implements IInventory, IPacketRecei
     private BlockVec3 posTarget;
     private BlockVec3 posBase;
     private BlockVec3 waypointBase;
-    private LinkedList<BlockVec3> wayPoints = new LinkedList();
-    private LinkedList<BlockVec3> minePoints = new LinkedList();
+    private AstroMinerPlan wayPoints = new AstroMinerPlan();
+    private AstroMinerPlan minePoints = new AstroMinerPlan();
     private BlockVec3 minePointCurrent = null;
     private EnumFacing baseFacing;
     public EnumFacing facing;
@@ -153,6 +153,9 @@ public class EntityAstroMiner extends Entity implements IInventory, IPacketRecei
     public static BlockTuple blockingBlock = new BlockTuple(Blocks.air, 0);
     private int givenFailMessage = 0;
     private BlockVec3 mineLast = null;
+    //The blocks in front of this position (for facingClear) were found clear: AstroMinerWatcher clears this if they change
+    private BlockVec3 mineClear = null;
+    private EnumFacing facingClear;
     private int mineCountDown = 0;
     private int pathBlockedCount = 0;
     public LinkedList<BlockVec3> laserBlocks = new LinkedList();
@@ -332,37 +335,8 @@ public class EntityAstroMiner extends Entity implements IInventory, IPacketRecei
 
     private boolean emptyInventory(TileEntityMinerBase minerBase)
     {
-        boolean doneOne = false;
-        for (int i = 0; i < this.cargoItems.length; i++)
-        {
-            ItemStack stack = this.cargoItems[i];
-            if (stack == null)
-            {
-                continue;
-            }
-            if (stack.stackSize == 0)
-            {
-                this.cargoItems[i] = null;
-                continue;
-            }
-            int sizeprev = stack.stackSize;
-            minerBase.addToInventory(stack);
-            if (stack == null || stack.stackSize == 0)
-            {
-                this.cargoItems[i] = null;
-                this.markDirty();
-                return true;
-            }
-            else if (stack.stackSize < sizeprev)
-            {
-                this.cargoItems[i] = stack;
-                this.markDirty();
-                //Something was transferred although some stacks remaining
-                return true;
-            }
-        }
-        //No stacks were transferred
-        return false;
+        //Slot 0 of the base is its battery slot
+        return CargoTransfer.transfer(this, 0, this.getSizeInventory(), minerBase, 1, minerBase.getSizeInventory(), Integer.MAX_VALUE) > 0;
     }
 
     @Override
@@ -491,7 +465,7 @@ public class EntityAstroMiner extends Entity implements IInventory, IPacketRecei
             this.motionX = 0;
             this.motionY = 0;
             this.motionZ = 0;
-            GalacticraftCore.packetPipeline.sendToDimension(new PacketDynamic(this), GCCoreUtil.getDimensionID(this.worldObj));
+            GalacticraftCore.packetPipeline.sendToTracking(new PacketDynamic(this), this);
             return;
         }
 
@@ -591,7 +565,7 @@ public class EntityAstroMiner extends Entity implements IInventory, IPacketRecei
             break;
         }
 
-        GalacticraftCore.packetPipeline.sendToDimension(new PacketDynamic(this), GCCoreUtil.getDimensionID(this.worldObj));
+        GalacticraftCore.packetPipeline.sendToTracking(new PacketDynamic(this), this);
 
         this.posX += this.motionX;
         this.posY += this.motionY;
@@ -749,7 +723,7 @@ public class EntityAstroMiner extends Entity implements IInventory, IPacketRecei
             if (this.findNextTarget(minerBase))
             {
                 this.AIstate = AISTATE_TRAVELLING;
-                this.wayPoints.add(this.waypointBase.clone());
+                this.wayPoints.add(this.waypointBase);
                 this.mineCount = 0;
             }
             else
@@ -827,7 +801,7 @@ public class EntityAstroMiner extends Entity implements IInventory, IPacketRecei
         if (this.moveToPos(this.posTarget, false))
         {
             AIstate = AISTATE_MINING;
-            wayPoints.add(this.posTarget.clone());
+            wayPoints.add(this.posTarget);
             this.setMinePoints();
             return true;
         }
@@ -865,48 +839,8 @@ public class EntityAstroMiner extends Entity implements IInventory, IPacketRecei
         }
 
         BlockVec3 inFront = new BlockVec3(MathHelper.floor_double(this.posX + 0.5D), MathHelper.floor_double(this.posY + 1.5D), MathHelper.floor_double(this.posZ + 0.5D));
-        int otherEnd = (this.worldObj.provider instanceof WorldProviderAsteroids) ? this.MINE_LENGTH_AST : this.MINE_LENGTH;
-        if (this.baseFacing == EnumFacing.NORTH || this.baseFacing == EnumFacing.WEST)
-        {
-            otherEnd = -otherEnd;
-        }
-        switch (this.baseFacing)
-        {
-        case NORTH:
-        case SOUTH:
-            this.minePoints.add(inFront.clone().translate(0, 0, otherEnd));
-            this.minePoints.add(inFront.clone().translate(4, 0, otherEnd));
-            this.minePoints.add(inFront.clone().translate(4, 0, 0));
-            this.minePoints.add(inFront.clone().translate(2, 3, 0));
-            this.minePoints.add(inFront.clone().translate(2, 3, otherEnd));
-            this.minePoints.add(inFront.clone().translate(-2, 3, otherEnd));
-            this.minePoints.add(inFront.clone().translate(-2, 3, 0));
-            this.minePoints.add(inFront.clone().translate(-4, 0, 0));
-            this.minePoints.add(inFront.clone().translate(-4, 0, otherEnd));
-            this.minePoints.add(inFront.clone().translate(-2, -3, otherEnd));
-            this.minePoints.add(inFront.clone().translate(-2, -3, 0));
-            this.minePoints.add(inFront.clone().translate(2, -3, 0));
-            this.minePoints.add(inFront.clone().translate(2, -3, otherEnd));
-            this.minePoints.add(inFront.clone().translate(0, 0, otherEnd));
-            break;
-        case WEST:
-        case EAST:
-            this.minePoints.add(inFront.clone().translate(otherEnd, 0, 0));
-            this.minePoints.add(inFront.clone().translate(otherEnd, 0, 4));
-            this.minePoints.add(inFront.clone().translate(0, 0, 4));
-            this.minePoints.add(inFront.clone().translate(0, 3, 2));
-            this.minePoints.add(inFront.clone().translate(otherEnd, 3, 2));
-            this.minePoints.add(inFront.clone().translate(otherEnd, 3, -2));
-            this.minePoints.add(inFront.clone().translate(0, 3, -2));
-            this.minePoints.add(inFront.clone().translate(0, 0, -4));
-            this.minePoints.add(inFront.clone().translate(otherEnd, 0, -4));
-            this.minePoints.add(inFront.clone().translate(otherEnd, -3, -2));
-            this.minePoints.add(inFront.clone().translate(0, -3, -2));
-            this.minePoints.add(inFront.clone().translate(0, -3, 2));
-            this.minePoints.add(inFront.clone().translate(otherEnd, -3, 2));
-            this.minePoints.add(inFront.clone().translate(otherEnd, 0, 0));
-            break;
-        }
+        int length = (this.worldObj.provider instanceof WorldProviderAsteroids) ? this.MINE_LENGTH_AST : this.MINE_LENGTH;
+        this.minePoints.addShafts(inFront, this.baseFacing, length);
     }
 
     /**
@@ -1011,6 +945,19 @@ public class EntityAstroMiner extends Entity implements IInventory, IPacketRecei
             this.tryBackIn();
             return false;
         }
+
+        if (inFront.equals(this.mineClear) && this.facingAI == this.facingClear)
+        {
+            //Nothing to mine here and nothing has changed since: no need to look at the blocks again
+            if (!this.noSpeedup)
+            {
+                this.motionX *= this.speedup;
+                this.motionY *= this.speedup;
+                this.motionZ *= this.speedup;
+            }
+            return false;
+        }
+
         boolean wayBarred = false;
         this.tryBlockLimit = limit;
 
@@ -1203,6 +1150,13 @@ public class EntityAstroMiner extends Entity implements IInventory, IPacketRecei
             }
         }
 
+        if (this.tryBlockLimit == limit && !wayBarred)
+        {
+            this.mineClear = inFront;
+            this.facingClear = this.facingAI;
+            AstroMinerWatcher.watch(this, x, y, z);
+        }
+
         if (this.tryBlockLimit == limit && !this.noSpeedup)
         {
             this.motionX *= this.speedup;
@@ -1213,6 +1167,14 @@ public class EntityAstroMiner extends Entity implements IInventory, IPacketRecei
         return wayBarred;
     }
 
+    /**
+     * Called by AstroMinerWatcher when a block changes in front of the miner.
+     */
+    void onPathChanged()
+    {
+        this.mineClear = null;
+    }
+
     private boolean prepareMoveClient(int limit, int dist)
     {
         BlockVec3 inFront = new BlockVec3(MathHelper.floor_double(this.posX + 0.5D), MathHelper.floor_double(this.posY + 1.5D), MathHelper.floor_double(this.posZ + 0.5D));
@@ -1988,16 +1950,19 @@ public class EntityAstroMiner extends Entity implements IInventory, IPacketRecei
         //Clear blocks, and test to see if its movement area in front of the base is blocked
         if (miner.prepareMove(12, 0))
         {
+            AstroMinerWatcher.unwatch(miner);
             miner.isDead = true;
             return false;
         }
         if (miner.prepareMove(12, 1))
         {
+            AstroMinerWatcher.unwatch(miner);
             miner.isDead = true;
             return false;
         }
         if (miner.prepareMove(12, 2))
         {
+            AstroMinerWatcher.unwatch(miner);
             miner.isDead = true;
             return false;
         }
@@ -2377,23 +2342,11 @@ public class EntityAstroMiner extends Entity implements IInventory, IPacketRecei
         this.lastFacing = null;
         if (nbt.hasKey("WayPoints"))
         {
-            this.wayPoints.clear();
-            final NBTTagList wpList = nbt.getTagList("WayPoints", 10);
-            for (int j = 0; j < wpList.tagCount(); j++)
-            {
-                NBTTagCompound bvTag = wpList.getCompoundTagAt(j);
-                this.wayPoints.add(BlockVec3.readFromNBT(bvTag));
-            }
+            this.wayPoints.readFromNBT(nbt.getTagList("WayPoints", 10));
         }
         if (nbt.hasKey("MinePoints"))
         {
-            this.minePoints.clear();
-            final NBTTagList mpList = nbt.getTagList("MinePoints", 10);
-            for (int j = 0; j < mpList.tagCount(); j++)
-            {
-                NBTTagCompound bvTag = mpList.getCompoundTagAt(j);
-                this.minePoints.add(BlockVec3.readFromNBT(bvTag));
-            }
+            this.minePoints.readFromNBT(nbt.getTagList("MinePoints", 10));
         }
         if (nbt.hasKey("MinePointCurrent"))
         {
@@ -2470,21 +2423,11 @@ public class EntityAstroMiner extends Entity implements IInventory, IPacketRecei
         nbt.setInteger("Facing", this.facingAI.getIndex());
         if (this.wayPoints.size() > 0)
         {
-            NBTTagList wpList = new NBTTagList();
-            for (int j = 0; j < this.wayPoints.size(); j++)
-            {
-                wpList.appendTag(this.wayPoints.get(j).writeToNBT(new NBTTagCompound()));
-            }
-            nbt.setTag("WayPoints", wpList);
+            nbt.setTag("WayPoints", this.wayPoints.writeToNBT());
         }
         if (this.minePoints.size() > 0)
         {
-            NBTTagList mpList = new NBTTagList();
-            for (int j = 0; j < this.minePoints.size(); j++)
-            {
-                mpList.appendTag(this.minePoints.get(j).writeToNBT(new NBTTagCompound()));
-            }
-            nbt.setTag("MinePoints", mpList);
+            nbt.setTag("MinePoints", this.minePoints.writeToNBT());
         }
         if (this.minePointCurrent != null)
         {
@@ -1,7 +1,9 @@
 package micdoodle8.mods.galacticraft.planets.asteroids.event;
 
 import micdoodle8.mods.galacticraft.core.entities.player.GCPlayerHandler.ThermalArmorEvent;
+import micdoodle8.mods.galacticraft.planets.asteroids.entities.AstroMinerWatcher;
 import micdoodle8.mods.galacticraft.planets.asteroids.items.AsteroidsItems;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
 public class AsteroidsEventHandler
@@ -18,4 +20,13 @@ public class AsteroidsEventHandler
             event.setArmorAddResult(ThermalArmorEvent.ArmorAddResult.ADD);
         }
     }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event)
+    {
+        if (!event.world.isRemote)
+        {
+            AstroMinerWatcher.unload(event.world);
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package micdoodle8.mods.galacticraft.planets.asteroids.tile;
 
+import com.google.common.collect.Lists;
+import micdoodle8.mods.galacticraft.api.power.EnergySource.EnergySourceWireless;
 import micdoodle8.mods.galacticraft.api.power.ILaserNode;
 import micdoodle8.mods.galacticraft.api.vector.BlockVec3;
 import micdoodle8.mods.galacticraft.api.vector.Vector3;
@@ -16,6 +18,7 @@ import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fml.relauncher.Side;
 
 import java.util.LinkedList;
+import java.util.List;
 
 public abstract class TileEntityBeamOutput extends TileEntityAdvanced implements ILaserNode
 {
@@ -27,6 +30,13 @@ public abstract class TileEntityBeamOutput extends TileEntityAdvanced implements
     private BlockPos preLoadTarget = null;
     private BlockPos lastTargetVec = new BlockPos(-1, -1, -1);
 
+    //Bumped whenever a beam node anywhere is added, removed or re-aimed: compiled routes and node scans are redone after that
+    private static int beamVersion;
+    private int scanVersion = -1;
+    private int routeVersion = -1;
+    private ILaserNode routeSink;
+    private EnergySourceWireless routeSource;
+
     @Override
     public void update()
     {
@@ -56,7 +66,12 @@ public abstract class TileEntityBeamOutput extends TileEntityAdvanced implements
         }
         else if (this.targetVec.getX() == -1 && this.targetVec.getY() == -1 && this.targetVec.getZ() == -1)
         {
-            this.initiateReflector();
+            //Nothing to connect to last time: only look again if some node has changed (or now and then, to be safe)
+            if (this.scanVersion != TileEntityBeamOutput.beamVersion || this.ticks % 40 == 0)
+            {
+                this.initiateReflector();
+                this.scanVersion = TileEntityBeamOutput.beamVersion;
+            }
         }
 
     }
@@ -72,6 +87,7 @@ public abstract class TileEntityBeamOutput extends TileEntityAdvanced implements
     public void validate()
     {
         super.validate();
+        TileEntityBeamOutput.markBeamsChanged();
     }
 
     @Override
@@ -88,6 +104,71 @@ public abstract class TileEntityBeamOutput extends TileEntityAdvanced implements
         }
 
         this.nodeList.clear();
+        TileEntityBeamOutput.markBeamsChanged();
+    }
+
+    public static void markBeamsChanged()
+    {
+        TileEntityBeamOutput.beamVersion++;
+    }
+
+    /**
+     * Sends energy down this node's beam.  The result is the same as calling receiveEnergyGC() on the
+     * target, which passes it on through each reflector in turn, but the chain of reflectors is
+     * followed once and remembered until a beam node somewhere changes.
+     */
+    protected float sendAlongBeam(float amount, boolean simulate)
+    {
+        if (this.routeVersion != TileEntityBeamOutput.beamVersion || (this.routeSink != null && this.routeSink.getTile().isInvalid()))
+        {
+            this.compileRoute();
+        }
+
+        if (this.routeSource == null)
+        {
+            //Ends at somebody else's node type: let it see the energy come through the chain as usual
+            ILaserNode target = this.getTarget();
+            return target == null ? 0F : target.receiveEnergyGC(new EnergySourceWireless(Lists.newArrayList((ILaserNode) this)), amount, simulate);
+        }
+
+        return this.routeSink == null ? 0F : this.routeSink.receiveEnergyGC(this.routeSource, amount, simulate);
+    }
+
+    private void compileRoute()
+    {
+        this.routeVersion = TileEntityBeamOutput.beamVersion;
+        this.routeSink = null;
+        this.routeSource = null;
+
+        List<ILaserNode> path = Lists.newArrayList((ILaserNode) this);
+        ILaserNode node = this.getTarget();
+
+        while (node != null && node.getClass() == TileEntityBeamReflector.class)
+        {
+            ILaserNode next = node.getTarget();
+
+            if (next == null)
+            {
+                //A reflector pointing nowhere keeps the energy itself
+                break;
+            }
+
+            if (path.contains(next))
+            {
+                //The beam goes round in a loop: TileEntityBeamReflector refuses energy which has already passed through
+                this.routeSource = new EnergySourceWireless(path);
+                return;
+            }
+
+            path.add(node);
+            node = next;
+        }
+
+        if (node == null || node.getClass() == TileEntityBeamReflector.class || node.getClass() == TileEntityBeamReceiver.class)
+        {
+            this.routeSink = node;
+            this.routeSource = new EnergySourceWireless(path);
+        }
     }
 
     public void initiateReflector()
@@ -148,10 +229,17 @@ public abstract class TileEntityBeamOutput extends TileEntityAdvanced implements
 
         if (index != -1)
         {
-            this.nodeList.set(index, node);
+            //Already linked: only a different tile at the same position counts as a change
+            if (this.nodeList.get(index) != node)
+            {
+                this.nodeList.set(index, node);
+                TileEntityBeamOutput.markBeamsChanged();
+            }
             return;
         }
 
+        TileEntityBeamOutput.markBeamsChanged();
+
         if (this.nodeList.isEmpty())
         {
             this.nodeList.add(node);
@@ -226,6 +314,8 @@ public abstract class TileEntityBeamOutput extends TileEntityAdvanced implements
         {
             this.nodeList.remove(index);
         }
+
+        TileEntityBeamOutput.markBeamsChanged();
     }
 
     public void updateOrientation()
@@ -317,14 +407,14 @@ public abstract class TileEntityBeamOutput extends TileEntityAdvanced implements
 
     public void setTarget(ILaserNode target)
     {
-        if (target != null)
-        {
-            this.targetVec = target.getTile().getPos();
-        }
-        else
+        BlockPos newTarget = target != null ? target.getTile().getPos() : new BlockPos(-1, -1, -1);
+
+        if (!newTarget.equals(this.targetVec))
         {
-            this.targetVec = new BlockPos(-1, -1, -1);
+            TileEntityBeamOutput.markBeamsChanged();
         }
+
+        this.targetVec = newTarget;
     }
 
     @Override
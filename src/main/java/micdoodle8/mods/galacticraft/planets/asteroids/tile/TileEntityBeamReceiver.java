@@ -1,9 +1,7 @@
 package micdoodle8.mods.galacticraft.planets.asteroids.tile;
 
-import com.google.common.collect.Lists;
 import micdoodle8.mods.galacticraft.api.power.EnergySource;
 import micdoodle8.mods.galacticraft.api.power.EnergySource.EnergySourceAdjacent;
-import micdoodle8.mods.galacticraft.api.power.EnergySource.EnergySourceWireless;
 import micdoodle8.mods.galacticraft.api.power.IEnergyHandlerGC;
 import micdoodle8.mods.galacticraft.api.power.ILaserNode;
 import micdoodle8.mods.galacticraft.api.transmission.tile.IConductor;
@@ -55,7 +53,7 @@ public class TileEntityBeamReceiver extends TileEntityBeamOutput implements IEne
                     {
                         EnergySourceAdjacent source = new EnergySourceAdjacent(EnumFacing.getFront(this.facing.getIndex() ^ 1));
                         float toSend = Math.min(electricalTile.storage.getMaxExtract(), electricalTile.storage.getEnergyStoredGC());
-                        float transmitted = this.getTarget().receiveEnergyGC(new EnergySourceWireless(Lists.newArrayList((ILaserNode) this)), toSend, false);
+                        float transmitted = this.sendAlongBeam(toSend, false);
                         electricalTile.extractEnergyGC(source, transmitted, false);
                     }
                 }
@@ -66,7 +64,7 @@ public class TileEntityBeamReceiver extends TileEntityBeamOutput implements IEne
                     float availableToSend = EnergyUtil.otherModsEnergyExtract(tile, this.facing, this.maxRate, true);
                     if (availableToSend > 0F)
                     {
-                        float transmitted = this.getTarget().receiveEnergyGC(new EnergySourceWireless(Lists.newArrayList((ILaserNode) this)), availableToSend, false);
+                        float transmitted = this.sendAlongBeam(availableToSend, false);
                         EnergyUtil.otherModsEnergyExtract(tile, this.facing, transmitted, false);
                     }
                 }
@@ -316,6 +314,11 @@ public class TileEntityBeamReceiver extends TileEntityBeamOutput implements IEne
             }
         }
 
+        if (newDirection != this.facing)
+        {
+            TileEntityBeamOutput.markBeamsChanged();
+        }
+
         this.facing = newDirection;
     }
 
@@ -5,6 +5,7 @@ import micdoodle8.mods.galacticraft.core.GalacticraftCore;
 import micdoodle8.mods.galacticraft.core.energy.item.ItemElectricBase;
 import micdoodle8.mods.galacticraft.core.energy.tile.TileBaseElectricBlockWithInventory;
 import micdoodle8.mods.galacticraft.core.tile.IMultiBlock;
+import micdoodle8.mods.galacticraft.core.util.CargoTransfer;
 import micdoodle8.mods.galacticraft.core.util.ConfigManagerCore;
 import micdoodle8.mods.galacticraft.core.util.GCCoreUtil;
 import micdoodle8.mods.galacticraft.planets.GalacticraftPlanets;
@@ -316,60 +317,7 @@ public class TileEntityMinerBase extends TileBaseElectricBlockWithInventory impl
     {
         //TODO - add test for is container open and if so use Container.mergeItemStack
 
-        boolean flag1 = false;
-        int k = 1;
-        int invSize = this.getSizeInventory();
-
-        ItemStack existingStack;
-
-        if (itemstack.isStackable())
-        {
-            while (itemstack.stackSize > 0 && k < invSize)
-            {
-                existingStack = this.containingItems[k];
-
-                if (existingStack != null && existingStack.getItem() == itemstack.getItem() && (!itemstack.getHasSubtypes() || itemstack.getItemDamage() == existingStack.getItemDamage()) && ItemStack.areItemStackTagsEqual(itemstack, existingStack))
-                {
-                    int combined = existingStack.stackSize + itemstack.stackSize;
-
-                    if (combined <= itemstack.getMaxStackSize())
-                    {
-                        itemstack.stackSize = 0;
-                        existingStack.stackSize = combined;
-                        flag1 = true;
-                    }
-                    else if (existingStack.stackSize < itemstack.getMaxStackSize())
-                    {
-                        itemstack.stackSize -= itemstack.getMaxStackSize() - existingStack.stackSize;
-                        existingStack.stackSize = itemstack.getMaxStackSize();
-                        flag1 = true;
-                    }
-                }
-
-                ++k;
-            }
-        }
-
-        if (itemstack.stackSize > 0)
-        {
-            k = 1;
-
-            while (k < invSize)
-            {
-                existingStack = this.containingItems[k];
-
-                if (existingStack == null)
-                {
-                    this.containingItems[k] = itemstack.copy();
-                    itemstack.stackSize = 0;
-                    flag1 = true;
-                    break;
-                }
-
-                ++k;
-            }
-        }
-
+        boolean flag1 = CargoTransfer.transfer(new ItemStack[] { itemstack }, 0, 1, this.getContainingItems(), 1, this.getSizeInventory(), this.getInventoryStackLimit(), Integer.MAX_VALUE) > 0;
         this.markDirty();
         return flag1;
     }
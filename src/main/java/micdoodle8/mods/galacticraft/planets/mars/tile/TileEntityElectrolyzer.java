@@ -58,6 +58,11 @@ public class TileEntityElectrolyzer extends TileBaseElectricBlockWithInventory i
     @Override
     public void update()
     {
+        if (this.sleepTick())
+        {
+            return;
+        }
+
         super.update();
 
         if (!this.worldObj.isRemote)
@@ -169,6 +174,14 @@ public class TileEntityElectrolyzer extends TileBaseElectricBlockWithInventory i
         return this.liquidTank2.getFluid() != null ? this.liquidTank2.getFluid().amount * i / this.liquidTank2.getCapacity() : 0;
     }
 
+    @Override
+    protected boolean isIdle()
+    {
+        //Gas in the output tanks is pushed out every tick, so those must be empty too
+        return this.processTicks == 0 && this.containingItems[1] == null && this.containingItems[2] == null && this.containingItems[3] == null
+                && this.liquidTank.getFluidAmount() == 0 && this.liquidTank2.getFluidAmount() == 0 && !this.canProcess();
+    }
+
     public boolean canProcess()
     {
         if (this.waterTank.getFluid() == null || this.waterTank.getFluid().amount <= 0 || this.getDisabled(0))
@@ -406,6 +419,11 @@ public class TileEntityElectrolyzer extends TileBaseElectricBlockWithInventory i
             used = this.waterTank.fill(resource, doFill);
         }
 
+        if (doFill && used > 0)
+        {
+            this.wakeUp();
+        }
+
         return used;
     }
 
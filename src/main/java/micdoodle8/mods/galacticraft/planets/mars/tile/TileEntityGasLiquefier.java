@@ -94,6 +94,11 @@ public class TileEntityGasLiquefier extends TileBaseElectricBlockWithInventory i
     @Override
     public void update()
     {
+        if (this.sleepTick())
+        {
+            return;
+        }
+
         super.update();
 
         if (this.airProducts == -1)
@@ -352,6 +357,12 @@ public class TileEntityGasLiquefier extends TileBaseElectricBlockWithInventory i
         return this.liquidTank2.getFluid() != null ? this.liquidTank2.getFluid().amount * i / this.liquidTank2.getCapacity() : 0;
     }
 
+    @Override
+    protected boolean isIdle()
+    {
+        return this.processTicks <= -10 && this.containingItems[1] == null && this.containingItems[2] == null && this.containingItems[3] == null && !this.canProcess();
+    }
+
     public boolean canProcess()
     {
         if (this.gasTank.getFluid() == null || this.gasTank.getFluid().amount <= 0 || this.getDisabled(0))
@@ -674,7 +685,7 @@ public class TileEntityGasLiquefier extends TileBaseElectricBlockWithInventory i
         {
             if (resource != null && resource.isFluidEqual(this.liquidTank2.getFluid()))
             {
-                return this.liquidTank2.drain(resource.amount, doDrain);
+                return this.drained(this.liquidTank2.drain(resource.amount, doDrain), doDrain);
             }
         }
 
@@ -683,7 +694,7 @@ public class TileEntityGasLiquefier extends TileBaseElectricBlockWithInventory i
         {
             if (resource != null && resource.isFluidEqual(this.liquidTank.getFluid()))
             {
-                return this.liquidTank.drain(resource.amount, doDrain);
+                return this.drained(this.liquidTank.drain(resource.amount, doDrain), doDrain);
             }
         }
 
@@ -695,18 +706,29 @@ public class TileEntityGasLiquefier extends TileBaseElectricBlockWithInventory i
     {
         if (from == getGasInputDirection().getOpposite())
         {
-            return this.liquidTank2.drain(maxDrain, doDrain);
+            return this.drained(this.liquidTank2.drain(maxDrain, doDrain), doDrain);
         }
 
         //2->5 3->4 4->2 5->3
         if (getGasInputDirection().rotateY() == from)
         {
-            return this.liquidTank.drain(maxDrain, doDrain);
+            return this.drained(this.liquidTank.drain(maxDrain, doDrain), doDrain);
         }
 
         return null;
     }
 
+    private FluidStack drained(FluidStack drained, boolean doDrain)
+    {
+        //Room in an output tank may let a sleeping liquefier carry on
+        if (doDrain && drained != null && drained.amount > 0)
+        {
+            this.wakeUp();
+        }
+
+        return drained;
+    }
+
     @Override
     public boolean canFill(EnumFacing from, Fluid fluid)
     {
@@ -743,6 +765,11 @@ public class TileEntityGasLiquefier extends TileBaseElectricBlockWithInventory i
             }
         }
 
+        if (doFill && used > 0)
+        {
+            this.wakeUp();
+        }
+
         return used;
     }
 
@@ -787,6 +814,12 @@ public class TileEntityGasLiquefier extends TileBaseElectricBlockWithInventory i
             float conversion = 2F * Constants.LOX_GAS_RATIO;
             FluidStack fluidToFill = new FluidStack(AsteroidsModule.fluidOxygenGas, (int) (receive * conversion));
             int used = MathHelper.ceiling_float_int(this.gasTank.fill(fluidToFill, doReceive) / conversion);
+
+            if (doReceive && used > 0)
+            {
+                this.wakeUp();
+            }
+
             return used;
         }
 
@@ -48,6 +48,7 @@ public class ChunkProviderVenus implements IChunkProvider
     private final double[] terrainCalcs;
     private final float[] parabolicField;
     private double[] stoneNoise = new double[256];
+    private final double[] columnThresholds = new double[256];
     private MapGenBaseMeta caveGenerator = new MapGenCaveVenus();
     private MapGenBaseMeta lavaCaveGenerator = new MapGenLavaVenus();
     private BiomeGenBase[] biomesForGeneration;
@@ -100,6 +101,15 @@ public class ChunkProviderVenus implements IChunkProvider
         this.biomesForGeneration = this.worldObj.getWorldChunkManager().getBiomesForGeneration(this.biomesForGeneration, chunkX * 4 - 2, chunkZ * 4 - 2, 10, 10);
         this.createLandPerBiome(chunkX * 4, chunkZ * 4);
 
+        //The smooth noise threshold only depends on the column, so work it out once per column instead of for every block
+        for (int x = 0; x < 16; ++x)
+        {
+            for (int z = 0; z < 16; ++z)
+            {
+                this.columnThresholds[x * 16 + z] = this.noiseGenSmooth1.getNoise(chunkX * 16 + x, chunkZ * 16 + z) * 20.0;
+            }
+        }
+
         for (int i = 0; i < 4; ++i)
         {
             int j = i * 5;
@@ -140,7 +150,7 @@ public class ChunkProviderVenus implements IChunkProvider
 
                             for (int l2 = 0; l2 < 4; ++l2)
                             {
-                                if ((lvt_45_1_ += d16) > this.noiseGenSmooth1.getNoise(chunkX * 16 + (i * 4 + k2), chunkZ * 16 + (l * 4 + l2)) * 20.0)
+                                if ((lvt_45_1_ += d16) > this.columnThresholds[(i * 4 + k2) * 16 + l * 4 + l2])
                                 {
                                     primer.setBlockState(i * 4 + k2, i2 * 8 + j2, l * 4 + l2, BLOCK_FILL);
                                 }